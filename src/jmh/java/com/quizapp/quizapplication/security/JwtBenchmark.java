@@ -0,0 +1,75 @@
+package com.quizapp.quizapplication.security;
+
+import com.quizapp.quizapplication.entity.User;
+import com.quizapp.quizapplication.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification as done per request: the old three-parse path (new key and parser each
+ * time) against {@link JwtUtils#verify(String)} with and without the verified-token memo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "kX9pW2qY8zL5mN7vR3tJ0hG4fB6cK8aP";
+
+    private JwtUtils jwtUtils;
+    private JwtUtils memoizingJwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(SECRET, 86_400_000L, 0);
+        memoizingJwtUtils = new JwtUtils(SECRET, 86_400_000L, 1024);
+        token = jwtUtils.generateToken(new CustomUserDetails(userFor("student")));
+    }
+
+    @Benchmark
+    public boolean legacyThreeParses() {
+        String username = legacyClaims(token).getSubject();
+        String validated = legacyClaims(token).getSubject();
+        Date expiration = legacyClaims(token).getExpiration();
+        return username.equals(validated) && expiration.after(new Date());
+    }
+
+    @Benchmark
+    public VerifiedToken verifyOnce() {
+        return jwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyMemoized() {
+        return memoizingJwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateToken(new CustomUserDetails(userFor("student")));
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static User userFor(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setRole(Role.USER);
+        return user;
+    }
+}
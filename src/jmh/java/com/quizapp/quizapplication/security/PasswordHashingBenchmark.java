@@ -0,0 +1,49 @@
+package com.quizapp.quizapplication.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of a login (matches) and a registration (encode) per password hashing profile.
+ * {@code pbkdf2-100k} and {@code argon2-8m} are the PBKDF2 and Argon2 profiles with lower
+ * {@code security.password-hashing.*} costs than the defaults; compare them with {@code bcrypt-10}
+ * before choosing settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"bcrypt-8", "bcrypt-10", "bcrypt-12", "pbkdf2", "pbkdf2-100k", "argon2", "argon2-8m"})
+    private String profile;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = switch (profile) {
+            case "pbkdf2-100k" -> PasswordHashingProfile.PBKDF2.createEncoder(
+                    new PasswordHashingProfile.Parameters(100_000, 16_384, 2, 1));
+            case "argon2-8m" -> PasswordHashingProfile.ARGON2.createEncoder(
+                    new PasswordHashingProfile.Parameters(310_000, 8_192, 1, 1));
+            default -> PasswordHashingProfile.fromName(profile).createEncoder();
+        };
+        hash = encoder.encode("admin@123");
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches("admin@123", hash);
+    }
+
+    @Benchmark
+    public String register() {
+        return encoder.encode("admin@123");
+    }
+}
@@ -0,0 +1,60 @@
+package com.quizapp.quizapplication.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the rate-limit allow path: matching a request URI against the configured routes and
+ * taking a permit, alone and with every thread hitting the same global bucket. Run with
+ * {@code -prof gc} to confirm the allow path does not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    // High enough that every permit is granted: this measures the allow path only
+    private static final double PERMITS_PER_SECOND = 1e9;
+
+    private TokenBucket bucket;
+    private RoutePattern[] patterns;
+    private String uri;
+
+    @Setup
+    public void setUp() {
+        bucket = new TokenBucket(PERMITS_PER_SECOND, 1_000_000, System.nanoTime());
+        patterns = new RoutePattern[]{
+                RoutePattern.compile("/api/auth/login"),
+                RoutePattern.compile("/api/auth/register"),
+                RoutePattern.compile("/api/exams/{quizId}/start"),
+                RoutePattern.compile("/api/exams/sessions/{sessionId}/submit"),
+                RoutePattern.compile("/api/attempts/{quizId}")
+        };
+        uri = "/api/attempts/42";
+    }
+
+    @Benchmark
+    public int matchRoute() {
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].matches(uri, 0)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public long acquire() {
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long acquireContended() {
+        return bucket.tryAcquire(System.nanoTime());
+    }
+}
@@ -0,0 +1,109 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.QuizapplicationApplication;
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.entity.User;
+import com.quizapp.quizapplication.enums.Role;
+import com.quizapp.quizapplication.repository.QuizRepository;
+import com.quizapp.quizapplication.repository.UserRepository;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second that {@link AttemptWriter} gets into MySQL, with JDBC batching as configured
+ * in application-dev.yml ({@code batchSize=50}) and without it ({@code batchSize=1}, one round
+ * trip per row). One operation is one attempt; the {@code rows} counter adds its answer and
+ * selected-option rows.
+ * <p>
+ * Needs a scratch database, given as {@code BENCHMARK_DATASOURCE_URL} (plus
+ * {@code BENCHMARK_DATASOURCE_USERNAME}/{@code BENCHMARK_DATASOURCE_PASSWORD}), e.g.
+ * {@code jdbc:mysql://localhost:3306/quiz_benchmark?createDatabaseIfNotExist=true&rewriteBatchedStatements=true}.
+ * Without it the setup fails and JMH carries on with the other benchmarks. Written attempts
+ * are left in that database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class AttemptWriteBenchmark {
+
+    @Param({"10", "50"})
+    public int questions;
+
+    @Param({"50", "1"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private AttemptWriter attemptWriter;
+    private GradedSubmission graded;
+    private int rowsPerAttempt;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup
+    public void setUp() {
+        String url = System.getenv("BENCHMARK_DATASOURCE_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("Set BENCHMARK_DATASOURCE_URL to a scratch MySQL database to run this benchmark");
+        }
+        context = new SpringApplicationBuilder(QuizapplicationApplication.class).run(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getenv().getOrDefault("BENCHMARK_DATASOURCE_USERNAME", "root"),
+                "--spring.datasource.password=" + System.getenv().getOrDefault("BENCHMARK_DATASOURCE_PASSWORD", ""),
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--server.port=0",
+                "--logging.level.com.quizapp=WARN");
+        attemptWriter = context.getBean(AttemptWriter.class);
+
+        String name = "bench-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(name);
+        user.setPassword("{noop}" + name);
+        user.setEmail(name + "@example.com");
+        user.setRole(Role.USER);
+        user = context.getBean(UserRepository.class).save(user);
+
+        Quiz quiz = QuizFixtures.quiz(questions, 4);
+        quiz.setId(null);
+        quiz.setCreatedBy(user);
+        for (Question question : quiz.getQuestions()) {
+            question.setId(null);
+            question.getOptions().forEach(option -> option.setId(null));
+        }
+        quiz = context.getBean(QuizRepository.class).save(quiz);
+
+        graded = AttemptService.grade(user.getId(), AnswerKey.compile(quiz), QuizFixtures.correctSubmission(quiz));
+        rowsPerAttempt = 1;
+        for (GradedSubmission.Answer answer : graded.answers()) {
+            rowsPerAttempt += 1 + (answer.selectedOptionIds() == null ? 0 : answer.selectedOptionIds().size());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object write(Rows rows) {
+        Object attempt = attemptWriter.write(new GradedSubmission(UUID.randomUUID().toString(), graded.userId(),
+                graded.quizId(), graded.score(), graded.totalQuestions(), graded.attemptedAt(), graded.answers(), null));
+        rows.rows += rowsPerAttempt;
+        return attempt;
+    }
+}
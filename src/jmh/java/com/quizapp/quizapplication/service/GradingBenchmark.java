@@ -0,0 +1,44 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradingBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int questions;
+
+    @Param({"4", "8"})
+    private int options;
+
+    private Quiz quiz;
+    private AnswerKey answerKey;
+    private SubmitAnswerRequest submission;
+
+    @Setup
+    public void setUp() {
+        quiz = QuizFixtures.quiz(questions, options);
+        answerKey = AnswerKey.compile(quiz);
+        submission = QuizFixtures.correctSubmission(quiz);
+    }
+
+    @Benchmark
+    public AnswerKey compileAnswerKey() {
+        return AnswerKey.compile(quiz);
+    }
+
+    @Benchmark
+    public GradedSubmission grade() {
+        return AttemptService.grade(1L, answerKey, submission);
+    }
+}
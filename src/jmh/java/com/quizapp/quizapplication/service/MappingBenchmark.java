@@ -0,0 +1,59 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.AttemptResponse;
+import com.quizapp.quizapplication.dto.QuizResponse;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.entity.QuizAttempt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int questions;
+
+    @Param({"4", "8"})
+    private int options;
+
+    private Quiz quiz;
+    private QuizAttempt attempt;
+    private AnswerKey shuffledKey;
+    private QuizResponse cachedPayload;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        quiz = QuizFixtures.quiz(questions, options);
+        attempt = QuizFixtures.attempt(quiz);
+
+        Quiz shuffled = QuizFixtures.quiz(questions, options);
+        shuffled.setShuffleQuestions(true);
+        shuffled.setShuffleOptions(true);
+        shuffled.setQuestionPoolSize(questions / 2);
+        shuffledKey = AnswerKey.compile(shuffled);
+        cachedPayload = QuizService.mapToQuizResponse(shuffled);
+    }
+
+    @Benchmark
+    public QuizResponse mapQuiz() {
+        return QuizService.mapToQuizResponse(quiz);
+    }
+
+    // A per-attempt view over an already rendered quiz, as served to each exam session
+    @Benchmark
+    public QuizResponse layoutQuiz() {
+        return QuizLayout.of(seed++, shuffledKey).apply(cachedPayload);
+    }
+
+    @Benchmark
+    public AttemptResponse mapAttempt() {
+        return AttemptService.mapToAttemptResponse(attempt);
+    }
+}
@@ -0,0 +1,77 @@
+package com.quizapp.quizapplication.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quizapp.quizapplication.cache.CachedPayload;
+import com.quizapp.quizapplication.dto.QuizResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Per-request cost of producing a GET /api/quizzes/{id} body: serializing (and gzipping) on
+ * every request versus writing the cached bytes. Bytes on the wire for each encoding are
+ * printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadServingBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int questions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private QuizResponse quiz;
+    private CachedPayload<QuizResponse> payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        quiz = QuizService.mapToQuizResponse(QuizFixtures.quiz(questions, 4));
+        payload = CachedPayload.of(quiz, objectMapper.writeValueAsBytes(quiz));
+        System.out.printf("%n%d questions: identity=%d bytes, gzip on the fly=%d bytes, pre-gzipped=%s bytes%n",
+                questions, payload.json().length, dynamicGzip().length,
+                payload.gzip() == null ? "n/a" : String.valueOf(payload.gzip().length));
+    }
+
+    @Benchmark
+    public void serializePerRequest(Blackhole blackhole) throws IOException {
+        blackhole.consume(objectMapper.writeValueAsBytes(quiz));
+    }
+
+    @Benchmark
+    public void serializeAndGzipPerRequest(Blackhole blackhole) throws IOException {
+        blackhole.consume(dynamicGzip());
+    }
+
+    @Benchmark
+    public void writeCached(Blackhole blackhole) throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        out.write(payload.json());
+        blackhole.consume(out);
+    }
+
+    @Benchmark
+    public void writeCachedGzip(Blackhole blackhole) throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        out.write(payload.gzip() != null ? payload.gzip() : payload.json());
+        blackhole.consume(out);
+    }
+
+    // What server.compression does for a dynamic body: serialize, then gzip at the default level
+    private byte[] dynamicGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, quiz);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,104 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.entity.*;
+import com.quizapp.quizapplication.enums.QuestionType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory quizzes for benchmarks: every fifth question is TEXT, every third MULTIPLE_CHOICE,
+ * the rest SINGLE_CHOICE. Ids are assigned as if the rows had been loaded from the database.
+ */
+final class QuizFixtures {
+
+    private QuizFixtures() {
+    }
+
+    static Quiz quiz(int questionCount, int optionCount) {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setTitle("Benchmark quiz");
+
+        long optionId = 1;
+        for (int q = 0; q < questionCount; q++) {
+            Question question = new Question();
+            question.setId((long) q + 1);
+            question.setQuiz(quiz);
+            question.setText("Question " + q);
+            question.setType(typeFor(q));
+            if (question.getType() == QuestionType.TEXT) {
+                question.setCorrectAnswerText("Answer " + q);
+            } else {
+                for (int o = 0; o < optionCount; o++) {
+                    Option option = new Option();
+                    option.setId(optionId++);
+                    option.setQuestion(question);
+                    option.setText("Option " + o);
+                    option.setCorrect(o == 0 || (question.getType() == QuestionType.MULTIPLE_CHOICE && o == 1));
+                    question.getOptions().add(option);
+                }
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quiz;
+    }
+
+    /**
+     * A submission that answers every question correctly, in reverse order.
+     */
+    static SubmitAnswerRequest correctSubmission(Quiz quiz) {
+        List<SubmitAnswerRequest.AnswerEntry> entries = new ArrayList<>();
+        for (int i = quiz.getQuestions().size() - 1; i >= 0; i--) {
+            Question question = quiz.getQuestions().get(i);
+            SubmitAnswerRequest.AnswerEntry entry = new SubmitAnswerRequest.AnswerEntry();
+            entry.setQuestionId(question.getId());
+            if (question.getType() == QuestionType.TEXT) {
+                entry.setAnswerText(question.getCorrectAnswerText());
+            } else {
+                entry.setSelectedOptionIds(question.getOptions().stream()
+                        .filter(Option::isCorrect)
+                        .map(Option::getId)
+                        .toList());
+            }
+            entries.add(entry);
+        }
+        SubmitAnswerRequest request = new SubmitAnswerRequest();
+        request.setAnswers(entries);
+        return request;
+    }
+
+    static QuizAttempt attempt(Quiz quiz) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("student");
+
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setId(1L);
+        attempt.setUser(user);
+        attempt.setQuiz(quiz);
+        attempt.setAttemptedAt(LocalDateTime.now());
+        attempt.setTotalQuestions(quiz.getQuestions().size());
+        for (Question question : quiz.getQuestions()) {
+            UserAnswer answer = new UserAnswer();
+            answer.setAttempt(attempt);
+            answer.setQuestion(question);
+            if (question.getType() == QuestionType.TEXT) {
+                answer.setAnswerText(question.getCorrectAnswerText());
+            } else {
+                answer.getSelectedOptionIds().add(question.getOptions().get(0).getId());
+            }
+            attempt.getAnswers().add(answer);
+        }
+        return attempt;
+    }
+
+    private static QuestionType typeFor(int index) {
+        if (index % 5 == 4) {
+            return QuestionType.TEXT;
+        }
+        return index % 3 == 2 ? QuestionType.MULTIPLE_CHOICE : QuestionType.SINGLE_CHOICE;
+    }
+}
@@ -0,0 +1,67 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Submission throughput (grading plus one INFO line, as the submit path used to log) with the
+ * synchronous log4j2.xml against the async log4j2-async.xml, and with DEBUG-guarded logging
+ * turned off. Only the file appender is kept so console piping does not skew the numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class SubmissionLoggingBenchmark {
+
+    private static final Logger log = LogManager.getLogger(AttemptService.class);
+
+    private AnswerKey answerKey;
+    private SubmitAnswerRequest submission;
+
+    @Setup
+    public void setUp() {
+        Quiz quiz = QuizFixtures.quiz(50, 4);
+        answerKey = AnswerKey.compile(quiz);
+        submission = QuizFixtures.correctSubmission(quiz);
+
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        context.getConfiguration().getRootLogger().removeAppender("ConsoleAppender");
+        context.updateLoggers();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2.xml")
+    public GradedSubmission syncInfo() {
+        GradedSubmission graded = AttemptService.grade(1L, answerKey, submission);
+        log.info("Quiz attempt saved successfully. Score: {}/{}", graded.score(), graded.totalQuestions());
+        return graded;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-async.xml")
+    public GradedSubmission asyncInfo() {
+        GradedSubmission graded = AttemptService.grade(1L, answerKey, submission);
+        log.info("Quiz attempt saved successfully. Score: {}/{}", graded.score(), graded.totalQuestions());
+        return graded;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2.xml")
+    public GradedSubmission guardedDebugOff() {
+        GradedSubmission graded = AttemptService.grade(1L, answerKey, submission);
+        if (log.isDebugEnabled()) {
+            log.debug("Quiz attempt saved for quizId={}. Score: {}/{}", graded.quizId(), graded.score(), graded.totalQuestions());
+        }
+        return graded;
+    }
+}
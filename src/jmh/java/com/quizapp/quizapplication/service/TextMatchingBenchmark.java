@@ -0,0 +1,56 @@
+package com.quizapp.quizapplication.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of grading a single TEXT answer against a compiled matcher. Each submission shape
+ * exercises a different exit: exact hit after normalization, a typo caught by the edit-distance
+ * check, a numeric answer within tolerance, and a miss that runs every check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextMatchingBenchmark {
+
+    @Param({"exact", "typo", "numeric", "miss", "accented"})
+    private String submission;
+
+    private TextAnswerMatcher wordMatcher;
+    private TextAnswerMatcher numberMatcher;
+    private String answer;
+
+    @Setup
+    public void setUp() {
+        wordMatcher = TextAnswerMatcher.compile("Mitochondria", List.of("the mitochondrion", "Crème brûlée"), null, 2);
+        numberMatcher = TextAnswerMatcher.compile("3.14159", List.of(), 0.01, null);
+        answer = switch (submission) {
+            case "exact" -> "  The Mitochondrion. ";
+            case "typo" -> "mitocondria";
+            case "numeric" -> "3,14";
+            case "miss" -> "ribosome";
+            case "accented" -> "CRÈME BRÛLÉE";
+            default -> throw new IllegalArgumentException(submission);
+        };
+    }
+
+    @Benchmark
+    public boolean matchText() {
+        return wordMatcher.matches(answer);
+    }
+
+    @Benchmark
+    public boolean matchNumber() {
+        return numberMatcher.matches(answer);
+    }
+
+    @Benchmark
+    public TextAnswerMatcher compile() {
+        return TextAnswerMatcher.compile("Mitochondria", List.of("the mitochondrion", "Crème brûlée"), null, 2);
+    }
+}
@@ -0,0 +1,79 @@
+package com.quizapp.quizapplication.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Space-Saving sketch: tracks the most frequent values in a stream using a fixed number of
+ * counters. Counts of reported values are over-estimated by at most their {@code error}.
+ */
+public class HeavyHitters {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public HeavyHitters(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(String value) {
+        lock.lock();
+        try {
+            Counter counter = counters.get(value);
+            if (counter != null) {
+                counter.count++;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(value, new Counter(value, 1, 0));
+                return;
+            }
+            Counter min = null;
+            for (Counter candidate : counters.values()) {
+                if (min == null || candidate.count < min.count) {
+                    min = candidate;
+                }
+            }
+            counters.remove(min.value);
+            counters.put(value, new Counter(value, min.count + 1, min.count));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Estimate> top(int limit) {
+        List<Estimate> estimates;
+        lock.lock();
+        try {
+            estimates = new ArrayList<>(counters.size());
+            for (Counter counter : counters.values()) {
+                estimates.add(new Estimate(counter.value, counter.count, counter.error));
+            }
+        } finally {
+            lock.unlock();
+        }
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed());
+        return estimates.size() > limit ? estimates.subList(0, limit) : estimates;
+    }
+
+    public record Estimate(String value, long count, long error) {
+    }
+
+    private static final class Counter {
+        final String value;
+        long count;
+        final long error;
+
+        Counter(String value, long count, long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
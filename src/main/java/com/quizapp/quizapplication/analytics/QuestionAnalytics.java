@@ -0,0 +1,121 @@
+package com.quizapp.quizapplication.analytics;
+
+import com.quizapp.quizapplication.dto.OptionPickResponse;
+import com.quizapp.quizapplication.dto.QuestionStatsResponse;
+import com.quizapp.quizapplication.dto.TextAnswerCountResponse;
+import com.quizapp.quizapplication.event.AttemptRecordedEvent;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.service.AnswerKey;
+import com.quizapp.quizapplication.service.AnswerKeyCache;
+import com.quizapp.quizapplication.service.TextAnswerMatcher;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory answer analytics per question, fed by {@link AttemptRecordedEvent}s. Counters are
+ * {@link LongAdder}s so concurrent submissions do not contend; only wrong text answers go
+ * through the (per-question) heavy-hitters lock. Nothing here writes to the database, and the
+ * numbers cover submissions since {@code trackingSince}. Option picks are only counted for
+ * options that belong to the question in the current answer key.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionAnalytics {
+
+    private static final int TEXT_SKETCH_CAPACITY = 64;
+    private static final int TOP_WRONG_TEXT_ANSWERS = 10;
+
+    private final AnswerKeyCache answerKeyCache;
+
+    private final ConcurrentMap<Long, QuestionCounters> counters = new ConcurrentHashMap<>();
+    private final LocalDateTime trackingSince = LocalDateTime.now();
+
+    @EventListener
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        AnswerKey answerKey = answerKeyFor(event.submission().quizId());
+        for (GradedSubmission.Answer answer : event.submission().answers()) {
+            QuestionCounters question = counters.computeIfAbsent(answer.questionId(), id -> new QuestionCounters());
+            question.answered.increment();
+            if (answer.correct()) {
+                question.correct.increment();
+            }
+            int index = answerKey == null ? -1 : answerKey.indexOf(answer.questionId());
+            if (answer.selectedOptionIds() != null && index >= 0) {
+                for (Long optionId : answer.selectedOptionIds()) {
+                    if (optionId != null && answerKey.hasOption(index, optionId)) {
+                        question.optionPicks.computeIfAbsent(optionId, id -> new LongAdder()).increment();
+                    }
+                }
+            }
+            if (!answer.correct() && answer.answerText() != null) {
+                question.wrongTextAnswers.offer(TextAnswerMatcher.normalize(answer.answerText()));
+            }
+        }
+    }
+
+    public QuestionStatsResponse getStats(Long questionId) {
+        QuestionStatsResponse response = new QuestionStatsResponse();
+        response.setQuestionId(questionId);
+        response.setTrackingSince(trackingSince);
+
+        QuestionCounters question = counters.get(questionId);
+        if (question == null) {
+            response.setOptionPicks(List.of());
+            response.setTopWrongTextAnswers(List.of());
+            return response;
+        }
+
+        long answered = question.answered.sum();
+        long correct = question.correct.sum();
+        response.setAnswered(answered);
+        response.setCorrect(correct);
+        response.setCorrectRate(answered == 0 ? 0 : (double) correct / answered);
+
+        List<OptionPickResponse> picks = new ArrayList<>(question.optionPicks.size());
+        for (Map.Entry<Long, LongAdder> entry : question.optionPicks.entrySet()) {
+            OptionPickResponse pick = new OptionPickResponse();
+            pick.setOptionId(entry.getKey());
+            pick.setPicks(entry.getValue().sum());
+            picks.add(pick);
+        }
+        picks.sort((a, b) -> Long.compare(a.getOptionId(), b.getOptionId()));
+        response.setOptionPicks(picks);
+
+        List<TextAnswerCountResponse> wrong = new ArrayList<>();
+        for (HeavyHitters.Estimate estimate : question.wrongTextAnswers.top(TOP_WRONG_TEXT_ANSWERS)) {
+            TextAnswerCountResponse count = new TextAnswerCountResponse();
+            count.setAnswer(estimate.value());
+            count.setCount(estimate.count());
+            count.setMaxOvercount(estimate.error());
+            wrong.add(count);
+        }
+        response.setTopWrongTextAnswers(wrong);
+        return response;
+    }
+
+    // Replayed submissions may belong to a quiz deleted since; their picks are not counted
+    private AnswerKey answerKeyFor(Long quizId) {
+        try {
+            return answerKeyCache.get(quizId);
+        } catch (QuizNotFoundOrInactiveException e) {
+            return null;
+        }
+    }
+
+    private static final class QuestionCounters {
+        final LongAdder answered = new LongAdder();
+        final LongAdder correct = new LongAdder();
+        final ConcurrentMap<Long, LongAdder> optionPicks = new ConcurrentHashMap<>();
+        final HeavyHitters wrongTextAnswers = new HeavyHitters(TEXT_SKETCH_CAPACITY);
+    }
+}
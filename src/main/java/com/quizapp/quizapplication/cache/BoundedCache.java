@@ -0,0 +1,215 @@
+package com.quizapp.quizapplication.cache;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Small concurrent cache with a size bound and an optional time-to-live. Reads are a single
+ * map lookup; when the bound is exceeded a handful of entries are sampled from random parts
+ * of the table and the least recently used of them is evicted, which approximates LRU without
+ * a global lock.
+ * <p>
+ * {@link #getOrLoad} lets one caller per key run the loader while concurrent callers for the
+ * same key wait for its result. A load that overlaps an invalidation of its key is returned
+ * to its callers but not cached.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    // Independent regions per eviction, so one region emptied of cold entries cannot decide alone
+    private static final int EVICTION_REGIONS = 2;
+
+    private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so that a value loaded from pre-change data is never cached
+    private final AtomicLong invalidations = new AtomicLong();
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param ttlMillis entry lifetime, or 0 for entries that only leave through eviction or invalidation
+     */
+    public BoundedCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        long now = System.nanoTime();
+        if (ttlNanos > 0 && now - entry.createdNanos >= ttlNanos) {
+            if (map.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        entry.lastAccessNanos = now;
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached value, or loads it once however many callers miss at the same time.
+     * Exceptions from the loader are thrown to every caller waiting on that load.
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            long startInvalidations = invalidations.get();
+            value = loader.apply(key);
+            if (value != null && invalidations.get() == startInvalidations) {
+                put(key, value);
+                if (invalidations.get() != startInvalidations) {
+                    map.remove(key);
+                }
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    public void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.nanoTime()));
+        if (map.size() > maxSize) {
+            evictOne();
+        }
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        // Later callers start a fresh load instead of joining one that may have read stale data
+        loading.remove(key);
+        map.remove(key);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        loading.clear();
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictOne() {
+        Sample<K, V> sample = new Sample<>();
+        for (int i = 0; i < EVICTION_REGIONS; i++) {
+            sample.sampleFrom(randomRegion(), EVICTION_SAMPLE_SIZE * (i + 1));
+        }
+        if (sample.victim == null) {
+            // The chosen region held no entries; fall back to the start of the table
+            sample.sampleFrom(map.entrySet().spliterator(), EVICTION_SAMPLE_SIZE);
+        }
+        if (sample.victim != null && map.remove(sample.victim, sample.victimEntry)) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Narrows a spliterator over the table down to a randomly chosen stretch of about
+     * {@code EVICTION_SAMPLE_SIZE} entries. Each split halves a range of hash bins, so this
+     * takes O(log n) steps and never walks the entries it skips.
+     */
+    private Spliterator<Map.Entry<K, Entry<V>>> randomRegion() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Spliterator<Map.Entry<K, Entry<V>>> region = map.entrySet().spliterator();
+        while (region.estimateSize() > EVICTION_SAMPLE_SIZE) {
+            Spliterator<Map.Entry<K, Entry<V>>> prefix = region.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                region = prefix;
+            }
+        }
+        return region;
+    }
+
+    private static final class Sample<K, V> {
+        K victim;
+        Entry<V> victimEntry;
+        int seen;
+
+        void sampleFrom(Spliterator<Map.Entry<K, Entry<V>>> region, int upTo) {
+            while (seen < upTo && region.tryAdvance(this::consider)) {
+                seen++;
+            }
+        }
+
+        private void consider(Map.Entry<K, Entry<V>> candidate) {
+            if (victimEntry == null || candidate.getValue().lastAccessNanos < victimEntry.lastAccessNanos) {
+                victim = candidate.getKey();
+                victimEntry = candidate.getValue();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long createdNanos;
+        volatile long lastAccessNanos;
+
+        Entry(V value, long now) {
+            this.value = value;
+            this.createdNanos = now;
+            this.lastAccessNanos = now;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.quizapp.quizapplication.cache;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body rendered once and served many times: the DTO, its serialized JSON and a
+ * strong ETag derived from the bytes. Bodies large enough to benefit are also gzipped once, at
+ * maximum compression since the cost is paid only here, and carry their own ETag as a
+ * separate representation.
+ */
+public record CachedPayload<T>(T value, byte[] json, String etag, byte[] gzip, String gzipEtag) {
+
+    // Same floor as server.compression.min-response-size: below it the gzip framing is not worth it
+    private static final int GZIP_MIN_BYTES = 2048;
+
+    public static <T> CachedPayload<T> of(T value, byte[] json) {
+        String hash = DigestUtils.md5DigestAsHex(json);
+        if (json.length < GZIP_MIN_BYTES) {
+            return new CachedPayload<>(value, json, "\"" + hash + "\"", null, null);
+        }
+        return new CachedPayload<>(value, json, "\"" + hash + "\"", gzip(json), "\"" + hash + "-gzip\"");
+    }
+
+    /**
+     * Serves the cached bytes as they are, gzipped when the client accepts it, or 304 when the
+     * client's copy is current. Either representation's ETag counts as current.
+     *
+     * @param ifNoneMatch    raw {@code If-None-Match} header value, possibly a list or {@code *}
+     * @param acceptEncoding raw {@code Accept-Encoding} header value
+     */
+    public ResponseEntity<byte[]> toResponse(String ifNoneMatch, String acceptEncoding, CacheControl cacheControl) {
+        boolean gzipped = gzip != null && acceptsGzip(acceptEncoding);
+        String tag = gzipped ? gzipEtag : etag;
+        if (matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(tag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        // A Content-Encoding already set keeps the container from compressing the body again
+        return gzipped
+                ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip)
+                : response.body(json);
+    }
+
+    /**
+     * @param ifNoneMatch raw {@code If-None-Match} header value, possibly a list or {@code *}
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * True when {@code gzip} (or {@code *}) is listed with a non-zero quality. An explicit
+     * {@code gzip;q=0} wins over {@code *}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String coding = candidate.trim();
+            boolean acceptable = true;
+            int parameters = coding.indexOf(';');
+            if (parameters >= 0) {
+                acceptable = !isZeroQuality(coding.substring(parameters + 1));
+                coding = coding.substring(0, parameters).trim();
+            }
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                return acceptable;
+            }
+            if (coding.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String p = parameter.trim();
+            if (p.startsWith("q=") || p.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(p.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,16 @@
+package com.quizapp.quizapplication.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    // Injected where exam deadlines are computed, so tests can move time instead of waiting
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
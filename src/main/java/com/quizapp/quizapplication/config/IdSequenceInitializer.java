@@ -0,0 +1,54 @@
+package com.quizapp.quizapplication.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Entities moved from IDENTITY to pooled sequence ids keep their existing AUTO_INCREMENT rows.
+ * MySQL has no native sequences, so Hibernate emulates them with a one-row table; this makes sure
+ * each of those tables starts above the highest id already present before the first insert.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Log4j2
+public class IdSequenceInitializer {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String[]> SEQUENCES = List.of(
+            new String[]{"quiz_attempts", "quiz_attempts_seq"},
+            new String[]{"user_answers", "user_answers_seq"},
+            new String[]{"questions", "questions_seq"},
+            new String[]{"options", "options_seq"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        for (String[] sequence : SEQUENCES) {
+            String table = sequence[0];
+            String sequenceTable = sequence[1];
+
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long floor = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+
+            List<Long> current = jdbcTemplate.queryForList("SELECT next_val FROM " + sequenceTable, Long.class);
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + sequenceTable + " (next_val) VALUES (?)", floor);
+            } else if (current.get(0) < floor) {
+                jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = ?", floor);
+            } else {
+                continue;
+            }
+            log.info("Aligned id sequence {} to {} (max {}.id = {})", sequenceTable, floor, table, maxId);
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.quizapp.quizapplication.config;
 
+import com.quizapp.quizapplication.security.BoundedPasswordEncoder;
 import com.quizapp.quizapplication.security.CustomUserDetailsService;
 import com.quizapp.quizapplication.security.JwtAuthenticationFilter;
+import com.quizapp.quizapplication.security.PasswordHashingExecutor;
+import com.quizapp.quizapplication.security.PasswordHashingProfile;
+import com.quizapp.quizapplication.security.PasswordUpgradeService;
+import com.quizapp.quizapplication.security.RateLimitFilter;
+import com.quizapp.quizapplication.security.RateLimitProperties;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -12,26 +22,45 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomUserDetailsService userDetailsService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordUpgradeService passwordUpgradeService;
+    private final PasswordHashingProfile hashingProfile;
+    private final PasswordHashingProfile.Parameters hashingParameters;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtFilter, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(JwtAuthenticationFilter jwtFilter, RateLimitFilter rateLimitFilter,
+                          CustomUserDetailsService userDetailsService,
+                          PasswordHashingExecutor passwordHashingExecutor, PasswordUpgradeService passwordUpgradeService,
+                          @Value("${security.password-hashing.profile:bcrypt-10}") String hashingProfile,
+                          @Value("${security.password-hashing.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+                          @Value("${security.password-hashing.argon2.memory-kib:16384}") int argon2MemoryKib,
+                          @Value("${security.password-hashing.argon2.iterations:2}") int argon2Iterations,
+                          @Value("${security.password-hashing.argon2.parallelism:1}") int argon2Parallelism) {
         this.jwtFilter = jwtFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.userDetailsService = userDetailsService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.passwordUpgradeService = passwordUpgradeService;
+        this.hashingProfile = PasswordHashingProfile.fromName(hashingProfile);
+        this.hashingParameters = new PasswordHashingProfile.Parameters(
+                pbkdf2Iterations, argon2MemoryKib, argon2Iterations, argon2Parallelism);
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // Hashing runs on its own bounded pool instead of the request thread
+        return new BoundedPasswordEncoder(hashingProfile.createEncoder(hashingParameters), passwordHashingExecutor);
     }
 
     @Bean
@@ -39,6 +68,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(passwordUpgradeService);  // Rehash on login when the profile changed
         return authProvider;
     }
 
@@ -47,6 +77,14 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        // Only runs inside the security chain, after the JWT filter has identified the user
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -62,13 +100,17 @@ public class SecurityConfig {
                         })
                 )
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // Completion of already-authorized streaming responses
                         .requestMatchers("/api/auth/**").permitAll()  // Login/Register open
+                        .requestMatchers("/actuator/health/**").permitAll()  // Liveness/readiness probes
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")  // Metrics and Prometheus scrape
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")  // Admin endpoints
                         .anyRequest().authenticated()  // Others require auth
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);  // Per-user/per-address limits, 429 + Retry-After
 
         return http.build();
     }
@@ -0,0 +1,116 @@
+package com.quizapp.quizapplication.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the legacy comma-separated {@code user_answers.selected_option_ids} values into the
+ * {@code user_answer_options} table, one row per option. Runs in chunks at startup until no
+ * legacy values are left; a no-op once migrated or on a fresh schema. Tokens that are not
+ * option ids are logged and skipped rather than stopping startup.
+ * <p>
+ * The emptied column is only dropped when {@code quiz.migration.drop-legacy-selected-options}
+ * is set, so that schema changes stay a deliberate step; otherwise it is left in place, unmapped.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Log4j2
+public class SelectedOptionMigration {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean dropLegacyColumn;
+
+    public SelectedOptionMigration(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${quiz.migration.drop-legacy-selected-options:false}") boolean dropLegacyColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dropLegacyColumn = dropLegacyColumn;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!legacyColumnExists()) {
+            return;
+        }
+        long migrated = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> migrateChunk());
+            migrated += chunk;
+        } while (chunk == CHUNK_SIZE);
+
+        if (migrated > 0) {
+            log.info("Migrated selected options of {} user answers to user_answer_options", migrated);
+        }
+        if (dropLegacyColumn) {
+            dropLegacyColumn();
+        } else {
+            log.info("Legacy column user_answers.selected_option_ids is empty and unused; drop it manually or "
+                    + "set quiz.migration.drop-legacy-selected-options=true");
+        }
+    }
+
+    // Nothing maps the column any more, so ddl-auto=update would otherwise keep it forever
+    private void dropLegacyColumn() {
+        try {
+            jdbcTemplate.execute("ALTER TABLE user_answers DROP COLUMN selected_option_ids");
+            log.info("Dropped legacy column user_answers.selected_option_ids");
+        } catch (DataAccessException e) {
+            // Harmless to keep: it is empty and unmapped; the next start tries again
+            log.warn("Could not drop legacy column user_answers.selected_option_ids: {}", e.getMessage());
+        }
+    }
+
+    private int migrateChunk() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, selected_option_ids FROM user_answers WHERE selected_option_ids IS NOT NULL LIMIT " + CHUNK_SIZE);
+
+        List<Object[]> options = new ArrayList<>();
+        List<Object[]> cleared = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Long answerId = ((Number) row.get("id")).longValue();
+            for (String optionId : ((String) row.get("selected_option_ids")).split(",")) {
+                String trimmed = optionId.trim();
+                if (trimmed.isEmpty() || trimmed.equals("null")) {
+                    continue;
+                }
+                try {
+                    options.add(new Object[]{answerId, Long.parseLong(trimmed)});
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping malformed legacy option id '{}' of user answer {}", trimmed, answerId);
+                }
+            }
+            cleared.add(new Object[]{answerId});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO user_answer_options (user_answer_id, option_id) VALUES (?, ?)", options);
+        jdbcTemplate.batchUpdate("UPDATE user_answers SET selected_option_ids = NULL WHERE id = ?", cleared);
+        return rows.size();
+    }
+
+    private boolean legacyColumnExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, "user_answers", "selected_option_ids")) {
+                return columns.next();
+            }
+        }));
+    }
+}
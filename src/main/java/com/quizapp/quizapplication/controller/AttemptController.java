@@ -5,16 +5,22 @@ import com.quizapp.quizapplication.dto.ScoreResponse;
 import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
 import com.quizapp.quizapplication.exception.AccessDeniedException;
 import com.quizapp.quizapplication.exception.AttemptNotFoundException;
+import com.quizapp.quizapplication.exception.ExamSessionRequiredException;
 import com.quizapp.quizapplication.exception.InvalidAnswerException;
 import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.exception.SubmissionQueueFullException;
 import com.quizapp.quizapplication.service.AttemptService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,7 +36,7 @@ public class AttemptController {
     @PostMapping("/{quizId}")
     public ResponseEntity<?> submitAnswers(@PathVariable Long quizId, @Valid @RequestBody SubmitAnswerRequest request) {
         try {
-            log.info("Submitting answers for quizId: {}", quizId);
+            log.debug("Submitting answers for quizId: {}", quizId);
             ScoreResponse response =  attemptService.submitAnswers(quizId, request);
             return ResponseEntity.ok(response);
         }  catch (InvalidAnswerException e) {
@@ -39,6 +45,14 @@ public class AttemptController {
         } catch (QuizNotFoundOrInactiveException ex) {
             log.warn("Quiz not found or inactive: {}", ex.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (ExamSessionRequiredException ex) {
+            log.warn("Stateless submission refused for quizId {}: {}", quizId, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+        } catch (SubmissionQueueFullException ex) {
+            log.warn("Submission rejected, write-behind queue full: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .body(ex.getMessage());
         } catch (Exception e) {
             log.error("Unexpected error during answer submission: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("An error occurred while submitting answers.");
@@ -46,10 +60,11 @@ public class AttemptController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<?> getMyScores() {
+    public ResponseEntity<?> getMyScores(@RequestParam(required = false) Long after,
+                                         @RequestParam(defaultValue = "50") int size) {
         try {
-            log.info("Fetching current user's attempt history");
-            List<AttemptResponse> responses = attemptService.getMyScores();
+            log.info("Fetching current user's attempt history after: {}", after);
+            List<AttemptResponse> responses = attemptService.getMyScores(after, size);
             return ResponseEntity.ok(responses);
         }catch (AccessDeniedException e) {
             log.error("Access Denied: {}", e.getMessage(), e);
@@ -62,10 +77,11 @@ public class AttemptController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> getAllScores() {
+    public ResponseEntity<?> getAllScores(@RequestParam(required = false) Long after,
+                                          @RequestParam(defaultValue = "50") int size) {
         try {
-            log.info("Fetching all user attempts (admin access)");
-            List<AttemptResponse> responses = attemptService.getAllScores();
+            log.info("Fetching all user attempts after: {} (admin access)", after);
+            List<AttemptResponse> responses = attemptService.getAllScores(after, size);
             return ResponseEntity.ok(responses);
         } catch (AccessDeniedException e) {
             log.error("Access Denied: {}", e.getMessage(), e);
@@ -76,15 +92,65 @@ public class AttemptController {
         }
     }
 
+    @GetMapping("/my/page")
+    public ResponseEntity<?> getMyScoresPage(@RequestParam(required = false) Long after,
+                                             @RequestParam(defaultValue = "50") int size) {
+        try {
+            log.info("Fetching current user's attempt page after: {}", after);
+            return ResponseEntity.ok(attemptService.getMyScoresPage(after, size));
+        } catch (Exception e) {
+            log.error("Failed to fetch user attempt page: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Unable to retrieve your attempts at this time.");
+        }
+    }
+
+    @GetMapping(value = "/my/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMyScores() {
+        log.info("Streaming current user's attempt history");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(attemptService.streamMyScores());
+    }
+
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getAllScoresPage(@RequestParam(required = false) Long after,
+                                              @RequestParam(defaultValue = "50") int size) {
+        try {
+            log.info("Fetching attempt page after: {} (admin access)", after);
+            return ResponseEntity.ok(attemptService.getAllScoresPage(after, size));
+        } catch (AccessDeniedException e) {
+            log.error("Access Denied: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied.");
+        } catch (Exception e) {
+            log.error("Error fetching attempt page: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Unable to retrieve attempts data.");
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllScores() {
+        log.info("Streaming all user attempts (admin access)");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(attemptService.streamAllScores());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getAttemptDetails(@PathVariable Long id) {
+    public ResponseEntity<?> getAttemptDetails(@PathVariable Long id,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
             log.info("Fetching attempt details for id: {}", id);
-            AttemptResponse response = attemptService.getAttemptDetails(id);
-            return ResponseEntity.ok(response);
+            return attemptService.getAttemptPayload(id)
+                    .toResponse(ifNoneMatch, acceptEncoding, CacheControl.noCache().cachePrivate());
         } catch (AttemptNotFoundException e) {
             log.warn("Attempt not found: {}", e.getMessage());
             return ResponseEntity.status(404).body("Attempt not found with ID: " + id);
+        } catch (AccessDeniedException e) {
+            log.warn("Access Denied: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied.");
         } catch (Exception e) {
             log.error("Error fetching attempt details: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Unable to retrieve attempt details.");
@@ -4,11 +4,13 @@ import com.quizapp.quizapplication.dto.AuthResponse;
 import com.quizapp.quizapplication.dto.LoginRequest;
 import com.quizapp.quizapplication.dto.RegisterRequest;
 import com.quizapp.quizapplication.exception.AuthenticationFailedException;
+import com.quizapp.quizapplication.exception.PasswordHashingBusyException;
 import com.quizapp.quizapplication.exception.UserAlreadyExistsException;
 import com.quizapp.quizapplication.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -34,6 +36,10 @@ public class AuthController {
             log.warn("Registration failed: {}", ex.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
 
+        } catch (PasswordHashingBusyException ex) {
+            log.warn("Registration rejected, password hashing saturated");
+            return busy(ex);
+
         } catch (Exception ex) {
             log.error("Unexpected error during registration: {}", ex.getMessage(), ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -50,9 +56,19 @@ public class AuthController {
             log.warn("Authentication failed: {}", ex.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ex.getMessage());
 
+        } catch (PasswordHashingBusyException ex) {
+            log.warn("Login rejected, password hashing saturated");
+            return busy(ex);
+
         } catch (Exception ex) {
             log.error("Unexpected error during login: {}", ex.getMessage(), ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("An unexpected error occurred during login");
         }    }
+
+    private static ResponseEntity<?> busy(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
 }
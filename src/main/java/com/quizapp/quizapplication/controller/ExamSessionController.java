@@ -0,0 +1,115 @@
+package com.quizapp.quizapplication.controller;
+
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.exception.AccessDeniedException;
+import com.quizapp.quizapplication.exception.AttemptNotFoundException;
+import com.quizapp.quizapplication.exception.ExamSessionClosedException;
+import com.quizapp.quizapplication.exception.ExamSessionLimitException;
+import com.quizapp.quizapplication.exception.InvalidAnswerException;
+import com.quizapp.quizapplication.exception.InvalidQuestionException;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.exception.SubmissionQueueFullException;
+import com.quizapp.quizapplication.service.ExamSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@Log4j2
+@RequestMapping("/api/exams")
+public class ExamSessionController {
+
+    private final ExamSessionService examSessionService;
+
+    @PostMapping("/{quizId}/start")
+    public ResponseEntity<?> start(@PathVariable Long quizId) {
+        try {
+            return ResponseEntity.ok(examSessionService.start(quizId));
+        } catch (QuizNotFoundOrInactiveException ex) {
+            log.warn("Quiz not found or inactive: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (ExamSessionLimitException ex) {
+            log.warn("Exam session rejected, store full: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .body(ex.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error starting exam for quizId {}: {}", quizId, e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("An error occurred while starting the exam.");
+        }
+    }
+
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<?> getSession(@PathVariable String sessionId) {
+        try {
+            return ResponseEntity.ok(examSessionService.getSession(sessionId));
+        } catch (AttemptNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (AccessDeniedException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied.");
+        } catch (Exception e) {
+            log.error("Unexpected error fetching exam session: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Unable to retrieve the exam session.");
+        }
+    }
+
+    @GetMapping("/sessions/{sessionId}/quiz")
+    public ResponseEntity<?> getSessionQuiz(@PathVariable String sessionId) {
+        try {
+            return ResponseEntity.ok(examSessionService.getSessionQuiz(sessionId));
+        } catch (AttemptNotFoundException | QuizNotFoundOrInactiveException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (AccessDeniedException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied.");
+        } catch (Exception e) {
+            log.error("Unexpected error fetching exam questions: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Unable to retrieve the exam questions.");
+        }
+    }
+
+    // Autosave target: kept quiet in the logs, clients call it every few seconds
+    @PutMapping("/sessions/{sessionId}/progress")
+    public ResponseEntity<?> saveProgress(@PathVariable String sessionId, @RequestBody SubmitAnswerRequest request) {
+        try {
+            return ResponseEntity.ok(examSessionService.saveProgress(sessionId, request));
+        } catch (InvalidAnswerException | InvalidQuestionException ex) {
+            return ResponseEntity.badRequest().body("Invalid answers submitted: " + ex.getMessage());
+        } catch (AttemptNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (ExamSessionClosedException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+        } catch (AccessDeniedException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied.");
+        } catch (Exception e) {
+            log.error("Unexpected error saving exam progress: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("An error occurred while saving answers.");
+        }
+    }
+
+    @PostMapping("/sessions/{sessionId}/submit")
+    public ResponseEntity<?> submit(@PathVariable String sessionId,
+                                    @RequestBody(required = false) SubmitAnswerRequest request) {
+        try {
+            return ResponseEntity.ok(examSessionService.submit(sessionId, request));
+        } catch (InvalidAnswerException | InvalidQuestionException ex) {
+            log.warn("Invalid answer during exam submission: {}", ex.getMessage());
+            return ResponseEntity.badRequest().body("Invalid answers submitted: " + ex.getMessage());
+        } catch (AttemptNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (AccessDeniedException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied.");
+        } catch (SubmissionQueueFullException ex) {
+            log.warn("Exam submission rejected, write-behind queue full: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .body(ex.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error during exam submission: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("An error occurred while submitting answers.");
+        }
+    }
+}
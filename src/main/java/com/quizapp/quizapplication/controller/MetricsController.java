@@ -0,0 +1,49 @@
+package com.quizapp.quizapplication.controller;
+
+import com.quizapp.quizapplication.diagnostics.VirtualThreadPinningMonitor;
+import com.quizapp.quizapplication.security.PrincipalCache;
+import com.quizapp.quizapplication.service.LoginMetrics;
+import com.quizapp.quizapplication.submission.WriteBehindQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Log4j2
+@RequestMapping("/api/admin/metrics")
+public class MetricsController {
+
+    private final WriteBehindQueue writeBehindQueue;
+    private final PrincipalCache principalCache;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final LoginMetrics loginMetrics;
+
+    @GetMapping("/write-behind")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getWriteBehindStats() {
+        return ResponseEntity.ok(writeBehindQueue.getStats());
+    }
+
+    @GetMapping("/principal-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getPrincipalCacheStats() {
+        return ResponseEntity.ok(principalCache.getStats());
+    }
+
+    @GetMapping("/pinning")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getPinningStats() {
+        return ResponseEntity.ok(pinningMonitor.getStats());
+    }
+
+    @GetMapping("/login")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getLoginStats() {
+        return ResponseEntity.ok(loginMetrics.getStats());
+    }
+}
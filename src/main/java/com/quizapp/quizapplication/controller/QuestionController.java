@@ -1,5 +1,6 @@
 package com.quizapp.quizapplication.controller;
 
+import com.quizapp.quizapplication.analytics.QuestionAnalytics;
 import com.quizapp.quizapplication.dto.AddQuestionRequest;
 import com.quizapp.quizapplication.dto.UpdateQuestionRequest;
 import com.quizapp.quizapplication.exception.AccessDeniedException;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class QuestionController {
 
     private final QuestionService questionService;
+    private final QuestionAnalytics questionAnalytics;
 
     @PostMapping("/{quizId}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -90,4 +92,16 @@ public class QuestionController {
                     .body("An unexpected error occurred while deleting the question");
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getQuestionStats(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(questionAnalytics.getStats(id));
+        } catch (Exception ex) {
+            log.error("Error fetching stats for question id {}: {}", id, ex.getMessage(), ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("An unexpected error occurred while fetching question stats");
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.quizapp.quizapplication.controller;
 
+import com.quizapp.quizapplication.cache.CachedPayload;
 import com.quizapp.quizapplication.dto.CreateQuizRequest;
+import com.quizapp.quizapplication.dto.LeaderboardEntryResponse;
 import com.quizapp.quizapplication.dto.QuizResponse;
+import com.quizapp.quizapplication.dto.QuizStatsResponse;
 import com.quizapp.quizapplication.dto.UpdateQuizRequest;
 import com.quizapp.quizapplication.exception.AccessDeniedException;
+import com.quizapp.quizapplication.exception.ExamSessionRequiredException;
 import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
 import com.quizapp.quizapplication.service.QuizService;
+import com.quizapp.quizapplication.service.QuizStatsStore;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +30,7 @@ import java.util.List;
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizStatsStore quizStatsStore;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -42,15 +50,21 @@ public class QuizController {
         }    }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getQuiz(@PathVariable Long id) {
+    public ResponseEntity<?> getQuiz(@PathVariable Long id,
+                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            QuizResponse response = quizService.getQuiz(id);
-            return ResponseEntity.ok(response);
+            CachedPayload<QuizResponse> payload = quizService.getQuizPayload(id);
+            return payload.toResponse(ifNoneMatch, acceptEncoding, CacheControl.noCache().cachePrivate());
 
         } catch (QuizNotFoundOrInactiveException ex) {
             log.warn("Quiz not found or inactive: {}", ex.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
 
+        } catch (ExamSessionRequiredException ex) {
+            log.debug("Quiz id {} is only served through exam sessions", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+
         } catch (Exception ex) {
             log.error("Error fetching quiz id {}: {}", id, ex.getMessage(), ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -69,6 +83,40 @@ public class QuizController {
                     .body("An unexpected error occurred while fetching quizzes");
         }    }
 
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<?> getQuizStats(@PathVariable Long id) {
+        try {
+            QuizStatsResponse response = quizStatsStore.getStats(id);
+            return ResponseEntity.ok(response);
+
+        } catch (QuizNotFoundOrInactiveException ex) {
+            log.warn("Quiz not found or inactive: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+
+        } catch (Exception ex) {
+            log.error("Error fetching stats for quiz id {}: {}", id, ex.getMessage(), ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("An unexpected error occurred while fetching quiz stats");
+        }
+    }
+
+    @GetMapping("/{id}/leaderboard")
+    public ResponseEntity<?> getLeaderboard(@PathVariable Long id, @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<LeaderboardEntryResponse> leaderboard = quizStatsStore.getLeaderboard(id, limit);
+            return ResponseEntity.ok(leaderboard);
+
+        } catch (QuizNotFoundOrInactiveException ex) {
+            log.warn("Quiz not found or inactive: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+
+        } catch (Exception ex) {
+            log.error("Error fetching leaderboard for quiz id {}: {}", id, ex.getMessage(), ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("An unexpected error occurred while fetching the leaderboard");
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> updateQuiz(@PathVariable Long id, @Valid @RequestBody UpdateQuizRequest request) {
@@ -0,0 +1,57 @@
+package com.quizapp.quizapplication.controller;
+
+import com.quizapp.quizapplication.dto.ImportReport;
+import com.quizapp.quizapplication.exception.InvalidQuestionException;
+import com.quizapp.quizapplication.service.QuizTransferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@Log4j2
+@RequestMapping("/api/admin/quizzes")
+public class QuizTransferController {
+
+    private final QuizTransferService quizTransferService;
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importQuiz(InputStream body) {
+        try {
+            ImportReport report = quizTransferService.importQuiz(body);
+            HttpStatus status = report.isCompleted() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+            return ResponseEntity.status(status).body(report);
+
+        } catch (InvalidQuestionException ex) {
+            log.warn("Invalid quiz document: {}", ex.getMessage());
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        } catch (IOException ex) {
+            log.warn("Unreadable quiz document: {}", ex.getMessage());
+            return ResponseEntity.badRequest().body("Quiz document is not valid JSON");
+        } catch (Exception ex) {
+            log.error("Error importing quiz: {}", ex.getMessage(), ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("An unexpected error occurred while importing the quiz");
+        }
+    }
+
+    @GetMapping(value = "/{id}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportQuiz(@PathVariable Long id) {
+        log.info("Exporting quiz id {}", id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"quiz-" + id + ".json\"")
+                .body(quizTransferService.exportQuiz(id));
+    }
+}
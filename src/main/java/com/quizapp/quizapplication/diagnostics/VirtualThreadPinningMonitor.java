@@ -0,0 +1,149 @@
+package com.quizapp.quizapplication.diagnostics;
+
+import com.quizapp.quizapplication.dto.PinningStatsResponse;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier, typically inside a
+ * {@code synchronized} block in a driver or library. Listens to the in-process JFR
+ * {@code jdk.VirtualThreadPinned} event and groups occurrences by the first application-relevant
+ * frame; each new site is logged once with its stack, after which only the counters move.
+ */
+@Component
+@Log4j2
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int TOP_SITES = 20;
+
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final ConcurrentMap<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedTotalNanos = new LongAdder();
+    private final LongAccumulator pinnedMaxNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${quiz.diagnostics.pinning-monitor.enabled:false}") boolean enabled,
+                                       @Value("${quiz.diagnostics.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    public PinningStatsResponse getStats() {
+        PinningStatsResponse stats = new PinningStatsResponse();
+        stats.setEnabled(enabled);
+        stats.setThresholdMs(threshold.toMillis());
+        stats.setPinnedEvents(pinnedEvents.sum());
+        stats.setTotalPinnedMs(pinnedTotalNanos.sum() / 1_000_000.0);
+        stats.setMaxPinnedMs(pinnedMaxNanos.get() / 1_000_000.0);
+
+        List<Map.Entry<String, Long>> sites = pinnedBySite.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(TOP_SITES)
+                .toList();
+        stats.setTopSites(sites.stream()
+                .map(e -> new PinningStatsResponse.Site(e.getKey(), e.getValue()))
+                .toList());
+        return stats;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinnedEvents.increment();
+        pinnedTotalNanos.add(nanos);
+        pinnedMaxNanos.accumulate(nanos);
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = siteOf(stackTrace);
+        LongAdder count = pinnedBySite.computeIfAbsent(site, s -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("Virtual thread pinned for {} ms at {} on thread {}:\n{}",
+                    nanos / 1_000_000, site, event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                    describe(stackTrace));
+        }
+    }
+
+    // The innermost frame outside java.* / jdk.* points at the code that holds the monitor
+    private static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.")
+                    && !type.startsWith("sun.") && !type.startsWith("com.sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        StringBuilder sb = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold={} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            stream = null;
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 
 @Data
 public class AddOptionRequest {
+    private Long id;  // On update: the existing option to keep; omit to add a new one
+
     @NotBlank
     private String text;
 
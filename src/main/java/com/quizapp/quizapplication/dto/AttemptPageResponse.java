@@ -0,0 +1,11 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AttemptPageResponse {
+    private List<AttemptResponse> items;
+    private Long nextCursor;  // Pass as 'after' to get the next page, null when there is none
+}
@@ -0,0 +1,11 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsResponse {
+    private int size;
+    private long hits;
+    private long misses;
+    private long evictions;
+}
@@ -1,10 +1,21 @@
 package com.quizapp.quizapplication.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 
 @Data
 public class CreateQuizRequest {
     @NotBlank
     private String title;
+
+    @Positive
+    private Integer timeLimitSeconds;  // Timed exam sessions; omit for untimed
+
+    private boolean shuffleQuestions;  // Exam sessions: per-attempt question order
+
+    private boolean shuffleOptions;  // Exam sessions: per-attempt option order
+
+    @Positive
+    private Integer questionPoolSize;  // Exam sessions: draw this many questions per attempt
 }
\ No newline at end of file
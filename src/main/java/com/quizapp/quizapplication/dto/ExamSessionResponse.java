@@ -0,0 +1,16 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class ExamSessionResponse {
+    private String sessionId;
+    private Long quizId;
+    private LocalDateTime startedAt;
+    private LocalDateTime deadline;
+    private long remainingSeconds;
+    private List<SubmitAnswerRequest.AnswerEntry> answers;  // Saved so far; omitted on autosave replies
+}
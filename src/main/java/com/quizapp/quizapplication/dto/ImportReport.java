@@ -0,0 +1,17 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportReport {
+    private Long quizId;
+    private int questionsRead;
+    private int questionsImported;
+    private int questionsRejected;
+    private boolean completed;
+    private String abortReason;  // Set when the document could not be read to the end
+    private List<ImportRowError> errors = new ArrayList<>();  // Capped; questionsRejected has the full count
+}
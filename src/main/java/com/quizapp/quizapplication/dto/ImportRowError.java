@@ -0,0 +1,13 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    private int row;  // 1-based position in the "questions" array
+    private String message;
+}
@@ -0,0 +1,14 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class LeaderboardEntryResponse {
+    private int rank;
+    private Long userId;
+    private int score;
+    private int total;
+    private LocalDateTime attemptedAt;
+}
@@ -0,0 +1,22 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+@Data
+public class LoginStatsResponse {
+    private long succeeded;
+    private long failed;
+    private long rejected;
+    private double avgLatencyMs;
+    private double maxLatencyMs;
+    private long lastSecondLogins;
+    private double loginsPerSecondLastMinute;
+    private long peakLoginsPerSecondLastMinute;
+    private double avgLatencyMsLastMinute;
+    private int hashingThreads;
+    private int hashingActive;
+    private int hashingQueueCapacity;
+    private int hashingQueueDepth;
+    private long hashingCompleted;
+    private long hashingRejected;
+}
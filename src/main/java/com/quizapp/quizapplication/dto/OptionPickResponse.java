@@ -0,0 +1,9 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+@Data
+public class OptionPickResponse {
+    private Long optionId;
+    private long picks;
+}
@@ -0,0 +1,18 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PinningStatsResponse {
+    private boolean enabled;
+    private long thresholdMs;
+    private long pinnedEvents;
+    private double totalPinnedMs;
+    private double maxPinnedMs;
+    private List<Site> topSites;
+
+    public record Site(String frame, long count) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class QuestionStatsResponse {
+    private Long questionId;
+    private long answered;
+    private long correct;
+    private double correctRate;
+    private List<OptionPickResponse> optionPicks;
+    private List<TextAnswerCountResponse> topWrongTextAnswers;
+    private LocalDateTime trackingSince;
+}
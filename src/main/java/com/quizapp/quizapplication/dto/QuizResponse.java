@@ -8,5 +8,9 @@ import java.util.List;
 public class QuizResponse {
     private Long id;
     private String title;
+    private Integer timeLimitSeconds;
+    private boolean shuffleQuestions;
+    private boolean shuffleOptions;
+    private Integer questionPoolSize;
     private List<QuestionResponse> questions;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class QuizStatsResponse {
+    private Long quizId;
+    private long attempts;
+    private double meanScore;
+    private double meanPercentage;
+    private List<Long> percentageHistogram;  // 11 buckets: 0-9%, 10-19%, ..., 90-99%, 100%
+}
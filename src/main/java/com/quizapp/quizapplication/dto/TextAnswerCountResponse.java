@@ -0,0 +1,10 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+@Data
+public class TextAnswerCountResponse {
+    private String answer;
+    private long count;
+    private long maxOvercount;  // Sketch error bound: the true count is at least count - maxOvercount
+}
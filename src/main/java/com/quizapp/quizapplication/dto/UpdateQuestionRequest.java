@@ -1,8 +1,11 @@
 package com.quizapp.quizapplication.dto;
 
 import com.quizapp.quizapplication.enums.QuestionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
 import java.util.List;
@@ -18,4 +21,13 @@ public class UpdateQuestionRequest {
     private List<AddOptionRequest> options; // For choice types
 
     private String correctAnswerText; // For TEXT type
+
+    private List<String> acceptedAnswers;  // TEXT: alternatives to correctAnswerText
+
+    @PositiveOrZero
+    private Double numericTolerance;  // TEXT: numeric answers within this distance are correct
+
+    @Min(0)
+    @Max(3)
+    private Integer maxEditDistance;  // TEXT: typos forgiven, scaled down for short answers
 }
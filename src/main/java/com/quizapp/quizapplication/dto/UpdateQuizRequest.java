@@ -1,10 +1,22 @@
 package com.quizapp.quizapplication.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
+// Exam settings left out (null) keep their current value
 @Data
 public class UpdateQuizRequest {
     @NotBlank
     private String title;
-}
\ No newline at end of file
+
+    @PositiveOrZero
+    private Integer timeLimitSeconds;  // Timed exam sessions; 0 makes the quiz untimed
+
+    private Boolean shuffleQuestions;  // Exam sessions: per-attempt question order
+
+    private Boolean shuffleOptions;  // Exam sessions: per-attempt option order
+
+    @PositiveOrZero
+    private Integer questionPoolSize;  // Exam sessions: draw this many questions per attempt; 0 uses all
+}
@@ -0,0 +1,17 @@
+package com.quizapp.quizapplication.dto;
+
+import lombok.Data;
+
+@Data
+public class WriteBehindStatsResponse {
+    private boolean enabled;
+    private int capacity;
+    private int queueDepth;
+    private long enqueued;
+    private long written;
+    private long rejected;
+    private long deadLettered;
+    private double avgDrainLatencyMs;
+    private double maxDrainLatencyMs;
+    private double lastDrainLatencyMs;
+}
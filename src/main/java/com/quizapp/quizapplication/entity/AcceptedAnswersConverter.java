@@ -0,0 +1,34 @@
+package com.quizapp.quizapplication.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores alternative answers one per line in a single column, so they load with the question
+ * row instead of needing another collection fetch. Answers are single-line by construction.
+ */
+@Converter
+public class AcceptedAnswersConverter implements AttributeConverter<List<String>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<String> answers) {
+        if (answers == null || answers.isEmpty()) {
+            return null;
+        }
+        return String.join("\n", answers);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String column) {
+        List<String> answers = new ArrayList<>();
+        if (column != null && !column.isEmpty()) {
+            for (String answer : column.split("\n")) {
+                answers.add(answer);
+            }
+        }
+        return answers;
+    }
+}
@@ -9,7 +9,8 @@ import lombok.Data;
 @Data
 public class Option {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_seq")
+    @SequenceGenerator(name = "option_seq", sequenceName = "options_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -19,7 +20,7 @@ public class Option {
     @JsonProperty("isCorrect")
     private boolean isCorrect;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id", nullable = false)
     private Question question;
 }
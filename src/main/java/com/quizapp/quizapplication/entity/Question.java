@@ -3,6 +3,7 @@ package com.quizapp.quizapplication.entity;
 import com.quizapp.quizapplication.enums.QuestionType;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,7 +13,8 @@ import java.util.List;
 @Data
 public class Question {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq")
+    @SequenceGenerator(name = "question_seq", sequenceName = "questions_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -22,16 +24,27 @@ public class Question {
     @Column(nullable = false)
     private QuestionType type;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id", nullable = false)
     private Quiz quiz;
 
+    // Loaded for up to 100 questions per query when a quiz is rendered or compiled
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Option> options = new ArrayList<>();
 
     // For TEXT type, store correct answer text (this will be  optional for choice types)
     private String correctAnswerText;
 
+    // TEXT only: further accepted answers, how far a numeric answer may be off, and how many typos are forgiven
+    @Convert(converter = AcceptedAnswersConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<String> acceptedAnswers = new ArrayList<>();
+
+    private Double numericTolerance;
+
+    private Integer maxEditDistance;
+
     @Column(nullable = false)
     private boolean isActive = true; // for soft delet
 }
\ No newline at end of file
@@ -17,13 +17,25 @@ public class Quiz {
     @Column(nullable = false)
     private String title;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_id")
     private User createdBy;
 
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Question> questions = new ArrayList<>();
 
+    // Seconds allowed for a timed exam session; null = untimed
+    private Integer timeLimitSeconds;
+
+    // Per-attempt layout for exam sessions, see QuizLayout
+    @Column(nullable = false)
+    private boolean shuffleQuestions;
+
+    @Column(nullable = false)
+    private boolean shuffleOptions;
+
+    private Integer questionPoolSize;  // Questions drawn per attempt; null = all
+
     @Column(nullable = false)
     private boolean isActive = true;// for soft delete
 }
\ No newline at end of file
@@ -12,14 +12,19 @@ import java.util.List;
 @Data
 public class QuizAttempt {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_attempt_seq")
+    @SequenceGenerator(name = "quiz_attempt_seq", sequenceName = "quiz_attempts_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // Set by the submission pipeline so a replayed submission is never stored twice
+    @Column(unique = true, length = 36)
+    private String submissionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id", nullable = false)
     private Quiz quiz;
 
@@ -29,6 +34,9 @@ public class QuizAttempt {
 
     private LocalDateTime attemptedAt = LocalDateTime.now();
 
+    // Exam sessions only: QuizLayout.of(shuffleSeed, answerKey) rebuilds the questions drawn and their order
+    private Long shuffleSeed;
+
     @OneToMany(mappedBy = "attempt", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<UserAnswer> answers = new ArrayList<>();
 }
\ No newline at end of file
@@ -2,25 +2,36 @@ package com.quizapp.quizapplication.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "user_answers")
 @Data
 public class UserAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_answer_seq")
+    @SequenceGenerator(name = "user_answer_seq", sequenceName = "user_answers_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "attempt_id", nullable = false)
     private QuizAttempt attempt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id", nullable = false)
     private Question question;
 
-    // For choice questions: comma-separated option IDs selected
-    private String selectedOptionIds;
+    // For choice questions: one row per selected option, indexed by option for answer distributions
+    @ElementCollection
+    @CollectionTable(name = "user_answer_options",
+            joinColumns = @JoinColumn(name = "user_answer_id"),
+            indexes = @Index(name = "idx_user_answer_options_option", columnList = "option_id"))
+    @Column(name = "option_id", nullable = false)
+    @BatchSize(size = 100)
+    private List<Long> selectedOptionIds = new ArrayList<>();
 
     // For text questions
     private String answerText;
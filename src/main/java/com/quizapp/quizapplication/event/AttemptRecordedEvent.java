@@ -0,0 +1,10 @@
+package com.quizapp.quizapplication.event;
+
+import com.quizapp.quizapplication.submission.GradedSubmission;
+
+/**
+ * Published once per graded submission that has been accepted, whether it was written
+ * synchronously or handed to the write-behind queue.
+ */
+public record AttemptRecordedEvent(GradedSubmission submission) {
+}
@@ -0,0 +1,10 @@
+package com.quizapp.quizapplication.event;
+
+import com.quizapp.quizapplication.session.ExamSession;
+
+/**
+ * Published from an exam session expiry worker when a timed exam reaches its deadline (plus grace)
+ * without being submitted. Listeners are expected to grade and record it.
+ */
+public record ExamSessionExpiredEvent(ExamSession session) {
+}
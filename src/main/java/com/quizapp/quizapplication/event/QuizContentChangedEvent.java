@@ -0,0 +1,8 @@
+package com.quizapp.quizapplication.event;
+
+/**
+ * Published whenever the questions or options of a quiz change, so that anything
+ * derived from the quiz content (answer keys, rendered payloads) can be dropped.
+ */
+public record QuizContentChangedEvent(Long quizId) {
+}
@@ -0,0 +1,7 @@
+package com.quizapp.quizapplication.exception;
+
+public class ExamSessionClosedException extends RuntimeException {
+    public ExamSessionClosedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.quizapp.quizapplication.exception;
+
+public class ExamSessionLimitException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ExamSessionLimitException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
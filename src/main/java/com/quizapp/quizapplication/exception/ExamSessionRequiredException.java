@@ -0,0 +1,7 @@
+package com.quizapp.quizapplication.exception;
+
+public class ExamSessionRequiredException extends RuntimeException {
+    public ExamSessionRequiredException(String message) {
+        super(message);
+    }
+}
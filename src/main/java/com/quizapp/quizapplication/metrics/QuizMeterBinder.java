@@ -0,0 +1,109 @@
+package com.quizapp.quizapplication.metrics;
+
+import com.quizapp.quizapplication.diagnostics.VirtualThreadPinningMonitor;
+import com.quizapp.quizapplication.security.PasswordHashingExecutor;
+import com.quizapp.quizapplication.security.PrincipalCache;
+import com.quizapp.quizapplication.security.RateLimitFilter;
+import com.quizapp.quizapplication.service.AttemptPayloadCache;
+import com.quizapp.quizapplication.service.QuizPayloadCache;
+import com.quizapp.quizapplication.session.ExamSessionStore;
+import com.quizapp.quizapplication.submission.WriteBehindQueue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the in-process counters behind {@code /api/admin/metrics/*} as Micrometer meters,
+ * so they are scraped together with the HTTP, Hikari and JVM metrics.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizMeterBinder implements MeterBinder {
+
+    private final WriteBehindQueue writeBehindQueue;
+    private final PrincipalCache principalCache;
+    private final QuizPayloadCache quizPayloadCache;
+    private final AttemptPayloadCache attemptPayloadCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final ExamSessionStore examSessionStore;
+    private final RateLimitFilter rateLimitFilter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quiz.submission.queue.depth", writeBehindQueue, q -> q.getStats().getQueueDepth())
+                .description("Submissions acknowledged but not yet written")
+                .register(registry);
+        FunctionCounter.builder("quiz.submission.written", writeBehindQueue, q -> q.getStats().getWritten())
+                .register(registry);
+        FunctionCounter.builder("quiz.submission.rejected", writeBehindQueue, q -> q.getStats().getRejected())
+                .register(registry);
+        FunctionCounter.builder("quiz.submission.dead-lettered", writeBehindQueue, q -> q.getStats().getDeadLettered())
+                .description("Submissions the database refused permanently, moved to the dead-letter file")
+                .register(registry);
+
+        bindCache(registry, "principal", principalCache, c -> c.getStats().getSize(),
+                c -> c.getStats().getHits(), c -> c.getStats().getMisses(), c -> c.getStats().getEvictions());
+        bindCache(registry, "quiz-payload", quizPayloadCache, c -> c.getStats().getSize(),
+                c -> c.getStats().getHits(), c -> c.getStats().getMisses(), c -> c.getStats().getEvictions());
+        bindCache(registry, "attempt-payload", attemptPayloadCache, c -> c.getStats().getSize(),
+                c -> c.getStats().getHits(), c -> c.getStats().getMisses(), c -> c.getStats().getEvictions());
+
+        Gauge.builder("auth.hashing.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+                .register(registry);
+        Gauge.builder("auth.hashing.queue.depth", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+                .register(registry);
+        FunctionCounter.builder("auth.hashing.rejected", passwordHashingExecutor, PasswordHashingExecutor::getRejectedCount)
+                .register(registry);
+
+        Gauge.builder("quiz.exam.sessions.active", examSessionStore, ExamSessionStore::getActiveCount)
+                .description("Timed exams in progress, held in memory")
+                .register(registry);
+        FunctionCounter.builder("quiz.exam.sessions.started", examSessionStore, ExamSessionStore::getStarted)
+                .register(registry);
+        FunctionCounter.builder("quiz.exam.sessions.expired", examSessionStore, ExamSessionStore::getExpired)
+                .description("Exams auto-submitted at their deadline")
+                .register(registry);
+        FunctionCounter.builder("quiz.exam.sessions.rejected", examSessionStore, ExamSessionStore::getRejected)
+                .register(registry);
+
+        for (RateLimitFilter.Route route : rateLimitFilter.getRoutes()) {
+            bindRateLimit(registry, route);
+        }
+
+        FunctionCounter.builder("jvm.virtual.pinned", pinningMonitor, VirtualThreadPinningMonitor::getPinnedEvents)
+                .description("Virtual threads blocked while pinned above the monitor threshold")
+                .register(registry);
+    }
+
+    private static void bindRateLimit(MeterRegistry registry, RateLimitFilter.Route route) {
+        FunctionCounter.builder("quiz.ratelimit.requests", route, RateLimitFilter.Route::getAllowed)
+                .tag("policy", route.getName()).tag("outcome", "allowed").register(registry);
+        FunctionCounter.builder("quiz.ratelimit.requests", route, RateLimitFilter.Route::getRejectedPerClient)
+                .tag("policy", route.getName()).tag("outcome", "rejected-client").register(registry);
+        FunctionCounter.builder("quiz.ratelimit.requests", route, RateLimitFilter.Route::getRejectedGlobal)
+                .tag("policy", route.getName()).tag("outcome", "rejected-global").register(registry);
+        FunctionCounter.builder("quiz.ratelimit.untracked", route, RateLimitFilter.Route::getUntracked)
+                .description("Requests from clients that found the client table full: held to the global rate, or rejected without one")
+                .tag("policy", route.getName()).register(registry);
+        Gauge.builder("quiz.ratelimit.clients", route, RateLimitFilter.Route::getTrackedClients)
+                .description("Clients with a partly used bucket")
+                .tag("policy", route.getName()).register(registry);
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String name, T cache,
+                                      ToDoubleFunction<T> size,
+                                      ToDoubleFunction<T> hits,
+                                      ToDoubleFunction<T> misses,
+                                      ToDoubleFunction<T> evictions) {
+        Gauge.builder("quiz.cache.size", cache, size).tag("cache", name).register(registry);
+        FunctionCounter.builder("quiz.cache.gets", cache, hits).tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("quiz.cache.gets", cache, misses).tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("quiz.cache.evictions", cache, evictions).tag("cache", name).register(registry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.quizapp.quizapplication.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds a {@code Server-Timing} header with the request's JDBC figures so they show up in the
+ * browser's network panel. Written just before the body, which is the last point headers can
+ * still be set; meant for non-production profiles only.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean enabled;
+
+    public ServerTimingAdvice(@Value("${quiz.sql-trace.server-timing:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlTrace trace = SqlTrace.current();
+        if (trace != null) {
+            response.getHeaders().add("Server-Timing", String.format(Locale.ROOT,
+                    "db;dur=%.1f;desc=\"%d statements, %d rows\", app;dur=%.1f",
+                    trace.getJdbcNanos() / 1_000_000.0, trace.getStatements(), trace.getRows(),
+                    trace.getElapsedNanos() / 1_000_000.0));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,102 @@
+package com.quizapp.quizapplication.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC activity of the current request: statement count, time spent in JDBC execute calls and
+ * rows read, plus the same figures per distinct SQL string so N+1 patterns stand out. Bound
+ * to the request thread by {@link SqlTraceFilter}; work on other threads is not traced.
+ */
+public final class SqlTrace {
+
+    private static final ThreadLocal<SqlTrace> CURRENT = new ThreadLocal<>();
+    private static final int MAX_DISTINCT_STATEMENTS = 100;
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, StatementStats> bySql = new LinkedHashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private long rows;
+
+    static SqlTrace begin() {
+        SqlTrace trace = new SqlTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlTrace current() {
+        return CURRENT.get();
+    }
+
+    StatementStats record(String sql, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        StatementStats stats = bySql.get(sql);
+        if (stats == null) {
+            stats = new StatementStats(sql);
+            // Past the cap only the totals move; the first distinct statements are the telling ones
+            if (bySql.size() < MAX_DISTINCT_STATEMENTS) {
+                bySql.put(sql, stats);
+            }
+        }
+        stats.executions++;
+        stats.nanos += nanos;
+        return stats;
+    }
+
+    void recordRow(StatementStats stats) {
+        rows++;
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * One line per distinct SQL string, most expensive first.
+     */
+    public String describe(int limit) {
+        List<StatementStats> sorted = new ArrayList<>(bySql.values());
+        sorted.sort(Comparator.comparingLong((StatementStats s) -> s.nanos).reversed());
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(limit, sorted.size()); i++) {
+            StatementStats s = sorted.get(i);
+            sb.append(String.format("%n\t%dx %.1f ms %d rows: %s", s.executions, s.nanos / 1_000_000.0, s.rows, s.sql));
+        }
+        return sb.toString();
+    }
+
+    static final class StatementStats {
+        private final String sql;
+        private int executions;
+        private long nanos;
+        private long rows;
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+    }
+}
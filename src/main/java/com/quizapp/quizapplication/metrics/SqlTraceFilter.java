@@ -0,0 +1,90 @@
+package com.quizapp.quizapplication.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link SqlTrace} for every request and, when it completes, records the statement
+ * count and JDBC time per endpoint and logs the request with its SQL if it went over budget.
+ * Runs outermost so that statements made while authenticating are included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Log4j2
+public class SqlTraceFilter extends OncePerRequestFilter {
+
+    private static final int LOGGED_STATEMENTS = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int statementBudget;
+    private final long timeBudgetNanos;
+
+    public SqlTraceFilter(MeterRegistry meterRegistry,
+                          @Value("${quiz.sql-trace.enabled:true}") boolean enabled,
+                          @Value("${quiz.sql-trace.statement-budget:25}") int statementBudget,
+                          @Value("${quiz.sql-trace.time-budget-ms:250}") long timeBudgetMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.statementBudget = statementBudget;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlTrace trace = SqlTrace.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlTrace.end();
+            complete(request, trace);
+        }
+    }
+
+    private void complete(HttpServletRequest request, SqlTrace trace) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("jdbc.statements.per.request")
+                .description("JDBC statements executed while serving one request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(trace.getStatements());
+        Timer.builder("jdbc.time.per.request")
+                .description("Time spent in JDBC execute calls while serving one request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(trace.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (trace.getStatements() > statementBudget || trace.getJdbcNanos() > timeBudgetNanos) {
+            log.warn("{} {} exceeded its SQL budget: {} statements, {} ms in JDBC, {} rows (budget {} statements / {} ms){}",
+                    request.getMethod(), request.getRequestURI(), trace.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(trace.getJdbcNanos()), trace.getRows(),
+                    statementBudget, TimeUnit.NANOSECONDS.toMillis(timeBudgetNanos),
+                    trace.describe(LOGGED_STATEMENTS));
+        }
+    }
+}
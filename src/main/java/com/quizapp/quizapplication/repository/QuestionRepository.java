@@ -1,6 +1,7 @@
 package com.quizapp.quizapplication.repository;
 
 import com.quizapp.quizapplication.entity.Question;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,4 +17,7 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     @Query("SELECT q FROM Question q WHERE q.id = :id AND q.isActive = true")
     Optional<Question> findActiveById(Long id);
+
+    @Query("SELECT q FROM Question q WHERE q.quiz.id = :quizId AND q.isActive = true AND q.id > :after ORDER BY q.id")
+    List<Question> findActiveByQuizIdAfter(Long quizId, Long after, Limit limit);
 }
@@ -2,13 +2,41 @@ package com.quizapp.quizapplication.repository;
 
 import com.quizapp.quizapplication.entity.QuizAttempt;
 import com.quizapp.quizapplication.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long> {
     List<QuizAttempt> findByUser(User user);
     List<QuizAttempt> findByQuizId(Long quizId);
+
+    // Answers fetched with the attempt; user, quiz and question are only read by id (no proxy initialization)
+
+    @EntityGraph(attributePaths = "answers")
+    Optional<QuizAttempt> findWithAnswersById(Long id);
+
+    @Query("SELECT a.user.id FROM QuizAttempt a WHERE a.id = :id")
+    Optional<Long> findUserIdById(Long id);
+
+    // Keyset pagination: page ids first, then fetch that page with its answers
+
+    @Query("SELECT a.id FROM QuizAttempt a WHERE a.id > :after ORDER BY a.id")
+    List<Long> findIdsAfter(Long after, Limit limit);
+
+    @Query("SELECT a.id FROM QuizAttempt a WHERE a.user = :user AND a.id > :after ORDER BY a.id")
+    List<Long> findIdsByUserAfter(User user, Long after, Limit limit);
+
+    @EntityGraph(attributePaths = "answers")
+    List<QuizAttempt> findWithAnswersByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("SELECT a.submissionId FROM QuizAttempt a WHERE a.submissionId IN :submissionIds")
+    Set<String> findExistingSubmissionIds(Collection<String> submissionIds);
 }
\ No newline at end of file
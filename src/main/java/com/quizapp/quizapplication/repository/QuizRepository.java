@@ -17,5 +17,12 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
     @Query("SELECT q FROM Quiz q WHERE q.id = :id AND q.isActive = true")
     Optional<Quiz> findActiveById(Long id);
 
+    // Read paths below fetch questions in the same query; options follow via @BatchSize
+
+    @Query("SELECT q FROM Quiz q LEFT JOIN FETCH q.questions WHERE q.isActive = true")
+    List<Quiz> findAllActiveWithQuestions();
+
+    @Query("SELECT q FROM Quiz q LEFT JOIN FETCH q.questions WHERE q.id = :id AND q.isActive = true")
+    Optional<Quiz> findActiveByIdWithQuestions(Long id);
 
 }
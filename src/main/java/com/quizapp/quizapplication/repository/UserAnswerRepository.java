@@ -2,8 +2,26 @@ package com.quizapp.quizapplication.repository;
 
 import com.quizapp.quizapplication.entity.UserAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserAnswerRepository extends JpaRepository<UserAnswer, Long> {
+
+    // Answered from idx_user_answer_options_option alone, without reading user_answers
+    @Query(value = """
+            SELECT option_id AS optionId, COUNT(*) AS picks
+            FROM user_answer_options
+            WHERE option_id IN (:optionIds)
+            GROUP BY option_id
+            """, nativeQuery = true)
+    List<OptionPickCount> countPicksByOptionIds(Collection<Long> optionIds);
+
+    interface OptionPickCount {
+        Long getOptionId();
+        long getPicks();
+    }
 }
@@ -0,0 +1,129 @@
+package com.quizapp.quizapplication.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named hashing cost profiles selectable per deployment with {@code security.password-hashing.profile}.
+ * Every profile can verify hashes written by any other, so switching is safe; the stored hash of
+ * a user is rewritten in the selected profile on their next successful login. Legacy hashes
+ * without a {@code {id}} prefix are BCrypt.
+ * <p>
+ * PBKDF2 and Argon2 costs come from {@link Parameters}. Argon2 stores its parameters in the
+ * hash; PBKDF2 does not, so hashes with a non-default iteration count are written under a
+ * {@code {pbkdf2-<iterations>}} id and verified with that count.
+ */
+public enum PasswordHashingProfile {
+
+    BCRYPT_8("bcrypt-8", "bcrypt", 8),
+    BCRYPT_10("bcrypt-10", "bcrypt", 10),
+    BCRYPT_12("bcrypt-12", "bcrypt", 12),
+    PBKDF2("pbkdf2", "pbkdf2", 10),
+    ARGON2("argon2", "argon2", 10);
+
+    private static final String PBKDF2_ID = "pbkdf2";
+    private static final String PBKDF2_ITERATIONS_PREFIX = "{" + PBKDF2_ID + "-";
+    private static final int SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private final String profileName;
+    private final String encodingId;
+    private final int bcryptStrength;  // Only affects encoding and upgrade checks; matching reads the cost from the hash
+
+    PasswordHashingProfile(String profileName, String encodingId, int bcryptStrength) {
+        this.profileName = profileName;
+        this.encodingId = encodingId;
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    /**
+     * Costs for the PBKDF2 and Argon2 profiles. {@link #DEFAULTS} are Spring Security's 5.8
+     * defaults, which hashes written before these became configurable used.
+     *
+     * @param argon2MemoryKib memory per hash in KiB
+     */
+    public record Parameters(int pbkdf2Iterations, int argon2MemoryKib, int argon2Iterations, int argon2Parallelism) {
+
+        public static final Parameters DEFAULTS = new Parameters(310_000, 16_384, 2, 1);
+
+        public Parameters {
+            if (pbkdf2Iterations < 1 || argon2MemoryKib < 8 * argon2Parallelism || argon2Iterations < 1 || argon2Parallelism < 1) {
+                throw new IllegalArgumentException("Invalid password hashing parameters: " + this);
+            }
+        }
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    public static PasswordHashingProfile fromName(String profileName) {
+        return Arrays.stream(values())
+                .filter(profile -> profile.profileName.equalsIgnoreCase(profileName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown password hashing profile: " + profileName));
+    }
+
+    public PasswordEncoder createEncoder() {
+        return createEncoder(Parameters.DEFAULTS);
+    }
+
+    public PasswordEncoder createEncoder(Parameters parameters) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        String pbkdf2Id = pbkdf2Id(parameters.pbkdf2Iterations());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put(PBKDF2_ID, pbkdf2(Parameters.DEFAULTS.pbkdf2Iterations()));
+        encoders.put(pbkdf2Id, pbkdf2(parameters.pbkdf2Iterations()));
+        encoders.put("argon2", new Argon2PasswordEncoder(SALT_LENGTH, ARGON2_HASH_LENGTH,
+                parameters.argon2Parallelism(), parameters.argon2MemoryKib(), parameters.argon2Iterations()));
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                encodingId.equals(PBKDF2_ID) ? pbkdf2Id : encodingId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new FallbackMatcher(bcrypt));
+        return encoder;
+    }
+
+    private static String pbkdf2Id(int iterations) {
+        return iterations == Parameters.DEFAULTS.pbkdf2Iterations() ? PBKDF2_ID : PBKDF2_ID + "-" + iterations;
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", SALT_LENGTH, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    /**
+     * Verifies what the delegating encoder has no encoder registered for: PBKDF2 hashes written
+     * under an iteration count other than the current one, and legacy unprefixed BCrypt hashes.
+     */
+    private record FallbackMatcher(BCryptPasswordEncoder bcrypt) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new UnsupportedOperationException("Only used for matching");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (encodedPassword != null && encodedPassword.startsWith(PBKDF2_ITERATIONS_PREFIX)) {
+                int end = encodedPassword.indexOf('}');
+                try {
+                    int iterations = Integer.parseInt(encodedPassword.substring(PBKDF2_ITERATIONS_PREFIX.length(), end));
+                    return iterations > 0 && pbkdf2(iterations).matches(rawPassword, encodedPassword.substring(end + 1));
+                } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                    return false;
+                }
+            }
+            return bcrypt.matches(rawPassword, encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.quizapp.quizapplication.security;
+
+import com.quizapp.quizapplication.entity.User;
+import com.quizapp.quizapplication.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Called by the authentication provider after a successful login whose stored hash is weaker
+ * than, or in a different scheme from, the configured {@link PasswordHashingProfile}.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class PasswordUpgradeService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
+
+        log.info("Rehashed password for userId={} with the current hashing profile", user.getId());
+        return new CustomUserDetails(user);
+    }
+}
@@ -0,0 +1,46 @@
+package com.quizapp.quizapplication.security;
+
+import com.quizapp.quizapplication.cache.BoundedCache;
+import com.quizapp.quizapplication.dto.CacheStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches authenticated principals by username so that requests carrying a valid JWT do not
+ * hit the users table. Anything that changes a user's role or password must call
+ * {@link #invalidate(String)}; otherwise the change is picked up when the entry expires.
+ */
+@Component
+public class PrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final BoundedCache<String, CustomUserDetails> cache;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${security.principal-cache.ttl-ms:300000}") long ttlMs) {
+        this.userDetailsService = userDetailsService;
+        this.cache = new BoundedCache<>(maxSize, ttlMs);
+    }
+
+    public CustomUserDetails load(String username) {
+        return cache.getOrLoad(username, name -> (CustomUserDetails) userDetailsService.loadUserByUsername(name));
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStatsResponse stats = new CacheStatsResponse();
+        stats.setSize(cache.size());
+        stats.setHits(cache.hitCount());
+        stats.setMisses(cache.missCount());
+        stats.setEvictions(cache.evictionCount());
+        return stats;
+    }
+}
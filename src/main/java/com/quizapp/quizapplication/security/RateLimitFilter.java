@@ -0,0 +1,247 @@
+package com.quizapp.quizapplication.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies the {@link RateLimitProperties} policies. Runs in the security chain right after
+ * {@link JwtAuthenticationFilter}, so clients with a token are limited by username and
+ * everyone else (login, register) by remote address. Rejected requests get 429 with
+ * {@code Retry-After} before reaching a controller or the database.
+ * <p>
+ * For requests that are let through the filter does not allocate: route matching walks
+ * the URI in place, buckets are looked up by the key strings the container and security
+ * context already hold, and taking a permit is a CAS.
+ */
+@Component
+@Log4j2
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // A full sweep of idle buckets is O(clients); do it at most this often per policy
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Route[] routes;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.enabled = properties.enabled();
+        long now = System.nanoTime();
+        List<Route> compiled = new ArrayList<>();
+        for (RateLimitProperties.Policy policy : properties.policies()) {
+            compiled.add(new Route(policy, properties.maxTrackedClients(), now));
+        }
+        this.routes = compiled.toArray(new Route[0]);
+        if (enabled) {
+            for (Route route : routes) {
+                log.info("Rate limit policy '{}': {} {} per-client={} global={}", route.name,
+                        route.method == null ? "*" : route.method, route.pattern,
+                        describe(route.perClientRate), describe(route.globalRate));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routes.length == 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        long wait = route.acquire(request, now);
+        if (wait == 0) {
+            route.allowed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("Rate limited {} {} under policy '{}', retry after {}s",
+                request.getMethod(), request.getRequestURI(), route.name, retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests, retry after " + retryAfterSeconds + " seconds.");
+    }
+
+    public List<Route> getRoutes() {
+        return List.of(routes);
+    }
+
+    private Route match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        int start = request.getContextPath().length();
+        for (Route route : routes) {
+            if ((route.method == null || route.method.equals(method)) && route.pattern.matches(uri, start)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String describe(RateLimitProperties.Rate rate) {
+        return rate == null ? "none" : rate.permitsPerSecond() + "/s burst " + rate.burst();
+    }
+
+    /**
+     * One compiled policy with its buckets and counters.
+     */
+    public static final class Route {
+
+        private final String name;
+        private final String method;
+        private final RoutePattern pattern;
+        private final RateLimitProperties.Rate perClientRate;
+        private final RateLimitProperties.Rate globalRate;
+        private final TokenBucket global;
+        private final int maxTrackedClients;
+        // Separate maps so a username can never share a bucket with an address
+        private final ConcurrentHashMap<String, TokenBucket> byUser = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, TokenBucket> byAddress = new ConcurrentHashMap<>();
+        private final AtomicLong lastSweep;
+
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejectedPerClient = new LongAdder();
+        private final LongAdder rejectedGlobal = new LongAdder();
+        private final LongAdder untracked = new LongAdder();
+
+        private Route(RateLimitProperties.Policy policy, int maxTrackedClients, long now) {
+            if (policy.name() == null || policy.name().isBlank()) {
+                throw new IllegalArgumentException("Rate limit policy for " + policy.path() + " needs a name");
+            }
+            this.name = policy.name();
+            this.method = policy.method() == null || policy.method().isBlank() ? null : policy.method().toUpperCase();
+            this.pattern = RoutePattern.compile(policy.path());
+            this.perClientRate = validate(policy.perClient());
+            this.globalRate = validate(policy.global());
+            this.global = globalRate == null ? null : new TokenBucket(globalRate.permitsPerSecond(), globalRate.burst(), now);
+            this.maxTrackedClients = maxTrackedClients;
+            this.lastSweep = new AtomicLong(now);
+        }
+
+        private RateLimitProperties.Rate validate(RateLimitProperties.Rate rate) {
+            if (rate != null && (!(rate.permitsPerSecond() > 0) || rate.burst() < 1)) {
+                throw new IllegalArgumentException("Rate limit policy '" + name
+                        + "' needs permits-per-second > 0 and burst >= 1, got " + rate);
+            }
+            return rate;
+        }
+
+        /**
+         * @return 0 when the request may proceed, otherwise nanoseconds until it could
+         */
+        private long acquire(HttpServletRequest request, long now) {
+            TokenBucket client = perClientRate == null ? null : clientBucket(request, now);
+            if (perClientRate != null && client == null && global == null) {
+                // Nothing else bounds this client; fail closed until a sweep makes room
+                rejectedPerClient.increment();
+                return SWEEP_INTERVAL_NANOS;
+            }
+            if (client != null) {
+                long wait = client.tryAcquire(now);
+                if (wait > 0) {
+                    rejectedPerClient.increment();
+                    return wait;
+                }
+            }
+            if (global != null) {
+                long wait = global.tryAcquire(now);
+                if (wait > 0) {
+                    // Not this client's doing; don't charge it for a request that never ran
+                    if (client != null) {
+                        client.refund();
+                    }
+                    rejectedGlobal.increment();
+                    return wait;
+                }
+            }
+            return 0;
+        }
+
+        private TokenBucket clientBucket(HttpServletRequest request, long now) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            boolean user = authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken);
+            ConcurrentHashMap<String, TokenBucket> buckets = user ? byUser : byAddress;
+            String key = user ? authentication.getName() : request.getRemoteAddr();
+
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (byUser.size() + byAddress.size() >= maxTrackedClients && !sweep(now)) {
+                untracked.increment();
+                return null;
+            }
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(perClientRate.permitsPerSecond(), perClientRate.burst(), now));
+        }
+
+        /**
+         * Drops buckets that have refilled completely; a client coming back gets an equal,
+         * fresh one. Returns whether there is room for a new client afterwards.
+         */
+        private boolean sweep(long now) {
+            long last = lastSweep.get();
+            if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+                byUser.values().removeIf(bucket -> bucket.isFull(now));
+                byAddress.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            return byUser.size() + byAddress.size() < maxTrackedClients;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getAllowed() {
+            return allowed.sum();
+        }
+
+        public long getRejectedPerClient() {
+            return rejectedPerClient.sum();
+        }
+
+        public long getRejectedGlobal() {
+            return rejectedGlobal.sum();
+        }
+
+        /**
+         * Requests from clients that found the bucket table full. They are held to the global
+         * rate only, or rejected when the policy has none.
+         */
+        public long getUntracked() {
+            return untracked.sum();
+        }
+
+        public int getTrackedClients() {
+            return byUser.size() + byAddress.size();
+        }
+    }
+}
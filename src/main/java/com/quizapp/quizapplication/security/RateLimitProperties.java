@@ -0,0 +1,36 @@
+package com.quizapp.quizapplication.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Rate-limit policies under {@code quiz.rate-limit}. A request is governed by the first policy
+ * whose method and path match; requests matching none are not limited.
+ *
+ * @param maxTrackedClients per policy; when reached, fully refilled buckets are dropped and
+ *                          clients that still do not fit are held only to the global rate,
+ *                          or get 429 if the policy has no global rate
+ */
+@ConfigurationProperties("quiz.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("100000") int maxTrackedClients,
+                                  List<Policy> policies) {
+
+    public RateLimitProperties {
+        policies = policies == null ? List.of() : List.copyOf(policies);
+    }
+
+    /**
+     * @param method    HTTP method, or null for any
+     * @param path      see {@link RoutePattern}
+     * @param perClient limit per authenticated user, or per client address before login; null for none
+     * @param global    limit across all clients; null for none
+     */
+    public record Policy(String name, String method, String path, Rate perClient, Rate global) {
+    }
+
+    public record Rate(double permitsPerSecond, int burst) {
+    }
+}
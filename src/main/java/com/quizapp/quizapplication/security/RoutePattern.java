@@ -0,0 +1,81 @@
+package com.quizapp.quizapplication.security;
+
+/**
+ * Request path pattern for rate-limit policies: literal segments, {@code *} or
+ * {@code {name}} for exactly one segment, and a trailing {@code **} for the rest of the path.
+ * Matching walks the URI in place instead of splitting it, so it allocates nothing.
+ */
+final class RoutePattern {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String REST = "**";
+
+    private final String pattern;
+    // Literal segment, or the ANY_SEGMENT / REST constants compared by identity
+    private final String[] segments;
+
+    private RoutePattern(String pattern, String[] segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+    }
+
+    static RoutePattern compile(String pattern) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+        }
+        String[] parts = pattern.substring(1).split("/", -1);
+        String[] segments = new String[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            if (part.equals(REST)) {
+                if (i != parts.length - 1) {
+                    throw new IllegalArgumentException("'**' is only allowed at the end of a route pattern: " + pattern);
+                }
+                segments[i] = REST;
+            } else if (part.equals(ANY_SEGMENT) || (part.startsWith("{") && part.endsWith("}"))) {
+                segments[i] = ANY_SEGMENT;
+            } else if (part.isEmpty() || part.contains("*")) {
+                throw new IllegalArgumentException("Unsupported route pattern segment '" + part + "': " + pattern);
+            } else {
+                segments[i] = part;
+            }
+        }
+        return new RoutePattern(pattern, segments);
+    }
+
+    /**
+     * @param path  request URI
+     * @param start offset of the path within the URI, i.e. the context path length
+     */
+    boolean matches(String path, int start) {
+        int length = path.length();
+        int pos = start;
+        for (String segment : segments) {
+            if (segment == REST) {
+                return true;
+            }
+            if (pos >= length || path.charAt(pos) != '/') {
+                return false;
+            }
+            pos++;
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = length;
+            }
+            if (segment == ANY_SEGMENT) {
+                if (end == pos) {
+                    return false;
+                }
+            } else if (end - pos != segment.length() || !path.regionMatches(pos, segment, 0, segment.length())) {
+                return false;
+            }
+            pos = end;
+        }
+        return pos == length;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,14 @@
+package com.quizapp.quizapplication.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable result of verifying a JWT once: the signature checked out and the token had not
+ * expired at verification time.
+ */
+public record VerifiedToken(String subject, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
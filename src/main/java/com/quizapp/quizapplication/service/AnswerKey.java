@@ -0,0 +1,187 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.entity.Option;
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.enums.QuestionType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, precompiled grading view of a quiz. Questions are indexed by their id
+ * (sorted, looked up by binary search) and correct option ids are kept as sorted
+ * primitive arrays, so grading never touches the JPA entities or lazy collections.
+ * TEXT questions carry a {@link TextAnswerMatcher} compiled along with the key.
+ */
+public final class AnswerKey {
+
+    /**
+     * Upper bound on option ids in one answer, checked before anything looks at the ids.
+     */
+    public static final int MAX_SELECTED_OPTIONS = 64;
+
+    private final Long quizId;
+    private final Integer timeLimitSeconds;
+    private final boolean shuffleQuestions;
+    private final boolean shuffleOptions;
+    private final Integer questionPoolSize;
+    private final long[] questionIds;
+    private final QuestionType[] types;
+    private final long[][] optionIds;
+    private final long[][] correctOptionIds;
+    private final TextAnswerMatcher[] textMatchers;
+
+    private AnswerKey(Quiz quiz, long[] questionIds, QuestionType[] types, long[][] optionIds,
+                      long[][] correctOptionIds, TextAnswerMatcher[] textMatchers) {
+        this.quizId = quiz.getId();
+        this.timeLimitSeconds = quiz.getTimeLimitSeconds();
+        this.shuffleQuestions = quiz.isShuffleQuestions();
+        this.shuffleOptions = quiz.isShuffleOptions();
+        this.questionPoolSize = quiz.getQuestionPoolSize();
+        this.questionIds = questionIds;
+        this.types = types;
+        this.optionIds = optionIds;
+        this.correctOptionIds = correctOptionIds;
+        this.textMatchers = textMatchers;
+    }
+
+    public static AnswerKey compile(Quiz quiz) {
+        // Soft-deleted questions are neither shown nor graded
+        Question[] questions = quiz.getQuestions().stream().filter(Question::isActive).toArray(Question[]::new);
+        Arrays.sort(questions, (a, b) -> Long.compare(a.getId(), b.getId()));
+
+        int n = questions.length;
+        long[] questionIds = new long[n];
+        QuestionType[] types = new QuestionType[n];
+        long[][] optionIds = new long[n][];
+        long[][] correctOptionIds = new long[n][];
+        TextAnswerMatcher[] textMatchers = new TextAnswerMatcher[n];
+
+        for (int i = 0; i < n; i++) {
+            Question question = questions[i];
+            questionIds[i] = question.getId();
+            types[i] = question.getType();
+            if (question.getType() == QuestionType.TEXT) {
+                textMatchers[i] = TextAnswerMatcher.compile(question.getCorrectAnswerText(),
+                        question.getAcceptedAnswers(), question.getNumericTolerance(), question.getMaxEditDistance());
+            }
+
+            List<Option> options = question.getOptions();
+            long[] all = new long[options.size()];
+            long[] correct = new long[options.size()];
+            int count = 0;
+            for (int o = 0; o < all.length; o++) {
+                Option option = options.get(o);
+                all[o] = option.getId();
+                if (option.isCorrect()) {
+                    correct[count++] = option.getId();
+                }
+            }
+            Arrays.sort(all);
+            optionIds[i] = all;
+            correct = Arrays.copyOf(correct, count);
+            Arrays.sort(correct);
+            correctOptionIds[i] = correct;
+        }
+        return new AnswerKey(quiz, questionIds, types, optionIds, correctOptionIds, textMatchers);
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public Integer getTimeLimitSeconds() {
+        return timeLimitSeconds;
+    }
+
+    public boolean isShuffleQuestions() {
+        return shuffleQuestions;
+    }
+
+    public boolean isShuffleOptions() {
+        return shuffleOptions;
+    }
+
+    public Integer getQuestionPoolSize() {
+        return questionPoolSize;
+    }
+
+    /**
+     * @see QuizLayout#variesPerAttempt
+     */
+    public boolean requiresExamSession() {
+        return QuizLayout.variesPerAttempt(shuffleQuestions, questionPoolSize, questionIds.length);
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    /**
+     * @return the position of the question in this key, or -1 if it does not belong to the quiz
+     */
+    public int indexOf(Long questionId) {
+        if (questionId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(questionIds, questionId);
+        return index < 0 ? -1 : index;
+    }
+
+    public long questionIdAt(int index) {
+        return questionIds[index];
+    }
+
+    public QuestionType typeAt(int index) {
+        return types[index];
+    }
+
+    /**
+     * @return whether the option belongs to the question at {@code index}
+     */
+    public boolean hasOption(int index, long optionId) {
+        return Arrays.binarySearch(optionIds[index], optionId) >= 0;
+    }
+
+    public boolean isCorrectText(int index, String answerText) {
+        TextAnswerMatcher matcher = textMatchers[index];
+        return matcher != null && matcher.matches(answerText);
+    }
+
+    /**
+     * Set equality between the selected ids and the correct ids, ignoring order and duplicates.
+     */
+    public boolean isCorrectSelection(int index, List<Long> selectedOptionIds) {
+        long[] correct = correctOptionIds[index];
+        for (int i = 0, size = selectedOptionIds.size(); i < size; i++) {
+            Long selected = selectedOptionIds.get(i);
+            if (selected == null || Arrays.binarySearch(correct, selected) < 0) {
+                return false;
+            }
+        }
+        for (long correctId : correct) {
+            if (!containsId(selectedOptionIds, correctId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same check for a selection already sorted and de-duplicated, as exam sessions store them.
+     */
+    public boolean isCorrectSelection(int index, long[] sortedSelection) {
+        return Arrays.equals(correctOptionIds[index], sortedSelection);
+    }
+
+    private static boolean containsId(List<Long> ids, long id) {
+        for (int i = 0, size = ids.size(); i < size; i++) {
+            Long candidate = ids.get(i);
+            if (candidate != null && candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.cache.BoundedCache;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.event.QuizContentChangedEvent;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.repository.QuizRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Holds one compiled {@link AnswerKey} per active quiz, at most {@code max-size} of them.
+ * Keys are built on first use and dropped whenever a {@link QuizContentChangedEvent} is
+ * published for the quiz, which includes deactivation. A key compiled from pre-change data
+ * is never cached.
+ */
+@Component
+@Log4j2
+public class AnswerKeyCache {
+
+    private final QuizRepository quizRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BoundedCache<Long, AnswerKey> keys;
+
+    public AnswerKeyCache(QuizRepository quizRepository,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${quiz.answer-key-cache.max-size:1000}") int maxSize) {
+        this.quizRepository = quizRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.keys = new BoundedCache<>(maxSize, 0);
+    }
+
+    /**
+     * @throws QuizNotFoundOrInactiveException if the quiz does not exist or has been deactivated
+     */
+    public AnswerKey get(Long quizId) {
+        return keys.getOrLoad(quizId, this::compile);
+    }
+
+    private AnswerKey compile(Long quizId) {
+        AnswerKey key = transactionTemplate.execute(status -> {
+            Quiz quiz = quizRepository.findActiveByIdWithQuestions(quizId)
+                    .orElseThrow(() -> {
+                        log.warn("Quiz with id={} not found or inactive", quizId);
+                        return new QuizNotFoundOrInactiveException("Quiz not found or inactive");
+                    });
+            return AnswerKey.compile(quiz);
+        });
+        log.debug("Compiled answer key for quizId={} with {} questions", quizId, key.size());
+        return key;
+    }
+
+    public void evict(Long quizId) {
+        keys.invalidate(quizId);
+    }
+
+    @EventListener
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        evict(event.quizId());
+    }
+}
@@ -0,0 +1,63 @@
+package com.quizapp.quizapplication.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.quizapplication.cache.BoundedCache;
+import com.quizapp.quizapplication.cache.CachedPayload;
+import com.quizapp.quizapplication.dto.AttemptResponse;
+import com.quizapp.quizapplication.dto.CacheStatsResponse;
+import com.quizapp.quizapplication.exception.AttemptNotFoundException;
+import com.quizapp.quizapplication.repository.QuizAttemptRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Read-through cache of rendered attempt details, keyed by attempt id. Stored attempts are
+ * never modified, so entries need no invalidation and only leave through size eviction.
+ * Access checks are the caller's job and must run before {@link #get}, which loads on a miss.
+ */
+@Component
+public class AttemptPayloadCache {
+
+    private final QuizAttemptRepository attemptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<Long, CachedPayload<AttemptResponse>> payloads;
+
+    public AttemptPayloadCache(QuizAttemptRepository attemptRepository,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${quiz.attempt-payload-cache.max-size:10000}") int maxSize) {
+        this.attemptRepository = attemptRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.payloads = new BoundedCache<>(maxSize, 0);
+    }
+
+    public CachedPayload<AttemptResponse> get(Long attemptId) {
+        return payloads.getOrLoad(attemptId, this::render);
+    }
+
+    private CachedPayload<AttemptResponse> render(Long attemptId) {
+        AttemptResponse response = transactionTemplate.execute(status ->
+                AttemptService.mapToAttemptResponse(attemptRepository.findWithAnswersById(attemptId)
+                        .orElseThrow(() -> new AttemptNotFoundException("Attempt not found with id " + attemptId))));
+        try {
+            return CachedPayload.of(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStatsResponse stats = new CacheStatsResponse();
+        stats.setSize(payloads.size());
+        stats.setHits(payloads.hitCount());
+        stats.setMisses(payloads.missCount());
+        stats.setEvictions(payloads.evictionCount());
+        return stats;
+    }
+}
@@ -1,145 +1,262 @@
 package com.quizapp.quizapplication.service;
 
+import com.quizapp.quizapplication.cache.CachedPayload;
+import com.quizapp.quizapplication.dto.AttemptPageResponse;
 import com.quizapp.quizapplication.dto.AttemptResponse;
 import com.quizapp.quizapplication.dto.ScoreResponse;
 import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
 import com.quizapp.quizapplication.dto.UserAnswerResponse;
 import com.quizapp.quizapplication.entity.*;
 import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.event.AttemptRecordedEvent;
 import com.quizapp.quizapplication.enums.Role;
 import com.quizapp.quizapplication.exception.*;
 import com.quizapp.quizapplication.repository.QuizAttemptRepository;
-import com.quizapp.quizapplication.repository.QuizRepository;
-import com.quizapp.quizapplication.repository.UserAnswerRepository;
 import com.quizapp.quizapplication.security.CustomUserDetails;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import com.quizapp.quizapplication.submission.WriteBehindQueue;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class AttemptService {
 
-    private final QuizRepository quizRepository;
+    private static final int MAX_PAGE_SIZE = 500;
+    static final String EXAM_SESSION_REQUIRED =
+            "This quiz draws or shuffles its questions per attempt; take it through POST /api/exams/{quizId}/start";
+
     private final QuizAttemptRepository attemptRepository;
-    private final UserAnswerRepository answerRepository;
+    private final AnswerKeyCache answerKeyCache;
+    private final AttemptWriter attemptWriter;
+    private final WriteBehindQueue writeBehindQueue;
+    private final AttemptStreamWriter attemptStreamWriter;
+    private final AttemptPayloadCache attemptPayloadCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
+    /**
+     * Grades the submission against the quiz answer key. In write-behind mode the graded
+     * result is journaled and queued, and the score is returned before it reaches MySQL.
+     *
+     * @throws ExamSessionRequiredException if the quiz draws or shuffles questions per attempt;
+     *                                      those are graded against the session's own layout
+     */
+    @Timed(value = "quiz.attempt.submit", histogram = true)
     public ScoreResponse submitAnswers(Long quizId, SubmitAnswerRequest request) {
-        log.info("Submitting answers for quizId={} by user", quizId);
+        // Failures are logged once, by the controller that maps them to a status
+        AnswerKey answerKey = answerKeyCache.get(quizId);
+        if (answerKey.requiresExamSession()) {
+            throw new ExamSessionRequiredException(EXAM_SESSION_REQUIRED);
+        }
+        GradedSubmission submission = grade(getCurrentUser().getId(), answerKey, request);
+        record(submission, false);
 
-        try {
-            User currentUser = getCurrentUser();
-            Quiz quiz = quizRepository.findById(quizId)
-                    .orElseThrow(() -> new QuizNotFoundOrInactiveException("Quiz not found with id " + quizId));
+        ScoreResponse response = new ScoreResponse();
+        response.setScore(submission.score());
+        response.setTotal(submission.totalQuestions());
+        return response;
+    }
 
-            if (request.getAnswers().size() != quiz.getQuestions().size()) {
-                throw new InvalidAnswerException("Must answer all questions");
+    /**
+     * Hands a graded submission to the write-behind queue or writes it directly. A direct write
+     * publishes {@link AttemptRecordedEvent} here; a queued one is published by the queue once
+     * its batch commits.
+     *
+     * @param writeThroughWhenFull write synchronously rather than reject when the queue is full,
+     *                             for submissions with no client left to retry them
+     */
+    void record(GradedSubmission submission, boolean writeThroughWhenFull) {
+        boolean queued = false;
+        if (writeBehindQueue.isEnabled()) {
+            try {
+                writeBehindQueue.enqueue(submission);
+                queued = true;
+            } catch (SubmissionQueueFullException e) {
+                if (!writeThroughWhenFull) {
+                    throw e;
+                }
             }
+        }
+        if (!queued) {
+            attemptWriter.write(submission);
+            eventPublisher.publishEvent(new AttemptRecordedEvent(submission));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Quiz attempt {} for quizId={}. Score: {}/{}", queued ? "queued" : "saved",
+                    submission.quizId(), submission.score(), submission.totalQuestions());
+        }
+    }
 
-            QuizAttempt attempt = new QuizAttempt();
-            attempt.setUser(currentUser);
-            attempt.setQuiz(quiz);
-            attempt.setTotalQuestions(quiz.getQuestions().size());
-
-            attempt = attemptRepository.save(attempt);
-
-            int score = 0;
-            for (SubmitAnswerRequest.AnswerEntry entry : request.getAnswers()) {
-                Question question = quiz.getQuestions().stream()
-                        .filter(q -> q.getId().equals(entry.getQuestionId()))
-                        .findFirst()
-                        .orElseThrow(() -> new InvalidQuestionException("Invalid question ID"));
-
-                UserAnswer userAnswer = new UserAnswer();
-                userAnswer.setAttempt(attempt);
-                userAnswer.setQuestion(question);
-
-                boolean isCorrect = false;
-                if (question.getType() == QuestionType.TEXT) {
-                    if (entry.getAnswerText() == null || entry.getAnswerText().length() > 300) {
-                        throw new InvalidAnswerException("Text answer must be under 300 characters");
-                    }
-                    userAnswer.setAnswerText(entry.getAnswerText());
-                    isCorrect = entry.getAnswerText().equalsIgnoreCase(question.getCorrectAnswerText());
-                } else {
-                    if (entry.getSelectedOptionIds() == null || entry.getSelectedOptionIds().isEmpty()) {
-                        throw new InvalidAnswerException("Options required for choice questions");
-                    }
-                    userAnswer.setSelectedOptionIds(String.join(",", entry.getSelectedOptionIds().stream().map(String::valueOf).toList()));
-
-                    List<Long> correctIds = question.getOptions().stream()
-                            .filter(Option::isCorrect)
-                            .map(Option::getId)
-                            .toList();
-                    List<Long> selected = entry.getSelectedOptionIds();
-
-                    if (question.getType() == QuestionType.SINGLE_CHOICE && selected.size() != 1) {
-                        throw new InvalidAnswerException("Single choice allows only one selection");
-                    }
-
-                    isCorrect = selected.containsAll(correctIds) && correctIds.containsAll(selected);
-                }
+    static GradedSubmission grade(Long userId, AnswerKey answerKey, SubmitAnswerRequest request) {
+        if (request.getAnswers().size() != answerKey.size()) {
+            throw new InvalidAnswerException("Must answer all questions");
+        }
 
-                if (isCorrect) score++;
-                answerRepository.save(userAnswer);
+        int score = 0;
+        List<GradedSubmission.Answer> answers = new ArrayList<>(answerKey.size());
+        for (SubmitAnswerRequest.AnswerEntry entry : request.getAnswers()) {
+            int index = answerKey.indexOf(entry.getQuestionId());
+            if (index < 0) {
+                throw new InvalidQuestionException("Invalid question ID");
             }
+            QuestionType type = answerKey.typeAt(index);
 
-            attempt.setScore(score);
-            attemptRepository.save(attempt);
+            boolean isCorrect;
+            if (type == QuestionType.TEXT) {
+                if (entry.getAnswerText() == null || entry.getAnswerText().length() > 300) {
+                    throw new InvalidAnswerException("Text answer must be under 300 characters");
+                }
+                isCorrect = answerKey.isCorrectText(index, entry.getAnswerText());
+                answers.add(new GradedSubmission.Answer(entry.getQuestionId(), null, entry.getAnswerText(), isCorrect));
+            } else {
+                List<Long> selected = entry.getSelectedOptionIds();
+                if (selected == null || selected.isEmpty()) {
+                    throw new InvalidAnswerException("Options required for choice questions");
+                }
+                if (selected.size() > AnswerKey.MAX_SELECTED_OPTIONS) {
+                    throw new InvalidAnswerException("Too many options selected");
+                }
+                if (type == QuestionType.SINGLE_CHOICE && selected.size() != 1) {
+                    throw new InvalidAnswerException("Single choice allows only one selection");
+                }
+                requireKnownOptions(answerKey, index, selected);
+                isCorrect = answerKey.isCorrectSelection(index, selected);
+                answers.add(new GradedSubmission.Answer(entry.getQuestionId(), List.copyOf(selected), null, isCorrect));
+            }
 
-            log.info("Quiz attempt saved successfully. Score: {}/{}", score, attempt.getTotalQuestions());
+            if (isCorrect) score++;
+        }
 
-            ScoreResponse response = new ScoreResponse();
-            response.setScore(score);
-            response.setTotal(attempt.getTotalQuestions());
-            return response;
+        return new GradedSubmission(UUID.randomUUID().toString(), userId, answerKey.getQuizId(),
+                score, answerKey.size(), LocalDateTime.now(), answers, null);
+    }
 
-        } catch (RuntimeException ex) {
-            log.error("Error while submitting answers for quizId={}: {}", quizId, ex.getMessage(), ex);
-            throw ex;
+    /**
+     * Rejects null ids and ids of options that are not part of the question, so nothing
+     * downstream (storage, analytics) ever sees them.
+     */
+    static void requireKnownOptions(AnswerKey answerKey, int index, List<Long> selected) {
+        for (int i = 0, size = selected.size(); i < size; i++) {
+            Long optionId = selected.get(i);
+            if (optionId == null) {
+                throw new InvalidAnswerException("Option IDs must not be null");
+            }
+            if (!answerKey.hasOption(index, optionId)) {
+                throw new InvalidAnswerException("Option " + optionId + " does not belong to question " + answerKey.questionIdAt(index));
+            }
         }
     }
 
-    public List<AttemptResponse> getMyScores() {
+    /**
+     * Up to {@code size} of the caller's attempts with ids after {@code after}, oldest first, as a
+     * plain list. Read the whole history with {@link #streamMyScores} instead of in one list.
+     */
+    public List<AttemptResponse> getMyScores(Long after, int size) {
         User currentUser = getCurrentUser();
-        log.info("Fetching scores for userId={}", currentUser.getId());
-        return mapToAttemptResponses(attemptRepository.findByUser(currentUser));
+        log.info("Fetching scores for userId={} after={}", currentUser.getId(), after);
+        return findAttempts(attemptRepository.findIdsByUserAfter(currentUser, cursorOrStart(after), Limit.of(pageSize(size))));
     }
 
-    public List<AttemptResponse> getAllScores() {
+    public List<AttemptResponse> getAllScores(Long after, int size) {
+        requireAdmin();
+        return findAttempts(attemptRepository.findIdsAfter(cursorOrStart(after), Limit.of(pageSize(size))));
+    }
+
+    public AttemptPageResponse getMyScoresPage(Long after, int size) {
         User currentUser = getCurrentUser();
-        if (currentUser.getRole() != Role.ADMIN) {
-            log.warn("Access denied for userId={} while fetching all scores", currentUser.getId());
-            throw new AccessDeniedException("Access denied");
-        }
-        return mapToAttemptResponses(attemptRepository.findAll());
+        log.info("Fetching scores page for userId={} after={}", currentUser.getId(), after);
+        return toPage(attemptRepository.findIdsByUserAfter(currentUser, cursorOrStart(after), Limit.of(pageSize(size))), size);
+    }
+
+    public AttemptPageResponse getAllScoresPage(Long after, int size) {
+        requireAdmin();
+        return toPage(attemptRepository.findIdsAfter(cursorOrStart(after), Limit.of(pageSize(size))), size);
+    }
+
+    /**
+     * Resolves the caller before the response body is written, since streaming happens off the request thread.
+     */
+    public StreamingResponseBody streamMyScores() {
+        Long userId = getCurrentUser().getId();
+        log.info("Streaming scores for userId={}", userId);
+        return out -> attemptStreamWriter.writeByUser(userId, out);
+    }
+
+    public StreamingResponseBody streamAllScores() {
+        requireAdmin();
+        return attemptStreamWriter::writeAll;
     }
 
     public AttemptResponse getAttemptDetails(Long attemptId) {
+        return getAttemptPayload(attemptId).value();
+    }
+
+    /**
+     * The attempt rendered and serialized once; later reads serve the cached bytes. Owners are
+     * checked by id before anything is loaded, so nobody fills the cache with others' attempts.
+     */
+    public CachedPayload<AttemptResponse> getAttemptPayload(Long attemptId) {
         User currentUser = getCurrentUser();
         log.info("Fetching attempt details for attemptId={} by userId={}", attemptId, currentUser.getId());
 
-        QuizAttempt attempt = attemptRepository.findById(attemptId)
-                .orElseThrow(() -> new AttemptNotFoundException("Attempt not found with id " + attemptId));
+        if (currentUser.getRole() != Role.ADMIN) {
+            Long ownerId = attemptRepository.findUserIdById(attemptId)
+                    .orElseThrow(() -> new AttemptNotFoundException("Attempt not found with id " + attemptId));
+            if (!ownerId.equals(currentUser.getId())) {
+                log.warn("Unauthorized access attempt. userId={} tried to access attemptId={}", currentUser.getId(), attemptId);
+                throw new AccessDeniedException("Access denied");
+            }
+        }
+        return attemptPayloadCache.get(attemptId);
+    }
 
-        if (currentUser.getRole() != Role.ADMIN && !attempt.getUser().getId().equals(currentUser.getId())) {
-            log.warn("Unauthorized access attempt. userId={} tried to access attemptId={}", currentUser.getId(), attemptId);
+    private void requireAdmin() {
+        User currentUser = getCurrentUser();
+        if (currentUser.getRole() != Role.ADMIN) {
+            log.warn("Access denied for userId={} while fetching all scores", currentUser.getId());
             throw new AccessDeniedException("Access denied");
         }
+    }
+
+    private AttemptPageResponse toPage(List<Long> ids, int size) {
+        AttemptPageResponse page = new AttemptPageResponse();
+        page.setItems(findAttempts(ids));
+        page.setNextCursor(ids.size() == pageSize(size) ? ids.get(ids.size() - 1) : null);
+        return page;
+    }
 
-        return mapToAttemptResponse(attempt);
+    private static long cursorOrStart(Long after) {
+        return after == null ? 0L : after;
     }
 
-    private List<AttemptResponse> mapToAttemptResponses(List<QuizAttempt> attempts) {
-        return attempts.stream().map(this::mapToAttemptResponse).toList();
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private List<AttemptResponse> findAttempts(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return attemptRepository.findWithAnswersByIdInOrderByIdAsc(ids).stream()
+                .map(AttemptService::mapToAttemptResponse)
+                .toList();
     }
 
-    private AttemptResponse mapToAttemptResponse(QuizAttempt attempt) {
+    static AttemptResponse mapToAttemptResponse(QuizAttempt attempt) {
         AttemptResponse resp = new AttemptResponse();
         resp.setId(attempt.getId());
         resp.setUserId(attempt.getUser().getId());
@@ -150,13 +267,35 @@ public class AttemptService {
         resp.setAnswers(attempt.getAnswers().stream().map(a -> {
             UserAnswerResponse uar = new UserAnswerResponse();
             uar.setQuestionId(a.getQuestion().getId());
-            uar.setSelectedOptionIds(a.getSelectedOptionIds());
+            uar.setSelectedOptionIds(joinOptionIds(a.getSelectedOptionIds()));
             uar.setAnswerText(a.getAnswerText());
             return uar;
         }).toList());
         return resp;
     }
 
+    /**
+     * Renders selected option ids in the comma-separated form the API has always returned, sorted.
+     */
+    static String joinOptionIds(List<Long> optionIds) {
+        if (optionIds == null || optionIds.isEmpty()) {
+            return null;
+        }
+        long[] sorted = new long[optionIds.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = optionIds.get(i);
+        }
+        Arrays.sort(sorted);
+        StringBuilder joined = new StringBuilder(sorted.length * 4);
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0) {
+                joined.append(',');
+            }
+            joined.append(sorted[i]);
+        }
+        return joined.toString();
+    }
+
     private User getCurrentUser() {
         return ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUser();
     }
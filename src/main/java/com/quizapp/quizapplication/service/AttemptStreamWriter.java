@@ -0,0 +1,128 @@
+package com.quizapp.quizapplication.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.quizapp.quizapplication.dto.AttemptResponse;
+import com.quizapp.quizapplication.dto.UserAnswerResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+
+/**
+ * Writes attempts as newline-delimited JSON straight from a forward-only JDBC cursor. Rows are
+ * ordered by attempt id, so only the attempt currently being assembled is held in memory.
+ */
+@Component
+@Log4j2
+public class AttemptStreamWriter {
+
+    private static final String SELECT_ATTEMPTS = """
+            SELECT a.id, a.user_id, a.quiz_id, a.score, a.total_questions, a.attempted_at,
+                   ua.question_id, ua.answer_text,
+                   (SELECT GROUP_CONCAT(uao.option_id ORDER BY uao.option_id)
+                    FROM user_answer_options uao WHERE uao.user_answer_id = ua.id) AS selected_option_ids
+            FROM quiz_attempts a
+            LEFT JOIN user_answers ua ON ua.attempt_id = a.id
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public AttemptStreamWriter(DataSource dataSource, ObjectMapper objectMapper) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J only streams row by row with this fetch size; anything else buffers the whole result
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void writeAll(OutputStream out) {
+        stream(SELECT_ATTEMPTS + " ORDER BY a.id, ua.id", out);
+    }
+
+    public void writeByUser(Long userId, OutputStream out) {
+        stream(SELECT_ATTEMPTS + " WHERE a.user_id = ? ORDER BY a.id, ua.id", out, userId);
+    }
+
+    private void stream(String sql, OutputStream out, Object... args) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            NdjsonRowHandler handler = new NdjsonRowHandler(generator);
+            streamingJdbcTemplate.query(sql, handler, args);
+            handler.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class NdjsonRowHandler implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private AttemptResponse current;
+        private long written;
+
+        NdjsonRowHandler(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long attemptId = rs.getLong("id");
+            if (current == null || current.getId() != attemptId) {
+                emitCurrent();
+                current = new AttemptResponse();
+                current.setId(attemptId);
+                current.setUserId(rs.getLong("user_id"));
+                current.setQuizId(rs.getLong("quiz_id"));
+                current.setScore(rs.getInt("score"));
+                current.setTotal(rs.getInt("total_questions"));
+                Timestamp attemptedAt = rs.getTimestamp("attempted_at");
+                current.setAttemptedAt(attemptedAt == null ? null : attemptedAt.toLocalDateTime());
+                current.setAnswers(new ArrayList<>());
+            }
+
+            long questionId = rs.getLong("question_id");
+            if (!rs.wasNull()) {
+                UserAnswerResponse answer = new UserAnswerResponse();
+                answer.setQuestionId(questionId);
+                answer.setSelectedOptionIds(rs.getString("selected_option_ids"));
+                answer.setAnswerText(rs.getString("answer_text"));
+                current.getAnswers().add(answer);
+            }
+        }
+
+        void finish() {
+            emitCurrent();
+            log.debug("Streamed {} attempts", written);
+        }
+
+        private void emitCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                rowWriter.writeValue(generator, current);
+                generator.writeRaw('\n');
+                if (++written % 100 == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+        }
+    }
+}
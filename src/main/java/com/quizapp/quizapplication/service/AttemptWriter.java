@@ -0,0 +1,89 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.entity.QuizAttempt;
+import com.quizapp.quizapplication.entity.UserAnswer;
+import com.quizapp.quizapplication.repository.QuestionRepository;
+import com.quizapp.quizapplication.repository.QuizAttemptRepository;
+import com.quizapp.quizapplication.repository.QuizRepository;
+import com.quizapp.quizapplication.repository.UserRepository;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns graded submissions into {@link QuizAttempt}/{@link UserAnswer} rows. Only entity
+ * references are used for the user, quiz and questions, so writing never loads them.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AttemptWriter {
+
+    private final QuizAttemptRepository attemptRepository;
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public QuizAttempt write(GradedSubmission submission) {
+        return attemptRepository.save(toEntity(submission));
+    }
+
+    /**
+     * Writes a batch in one transaction, skipping submissions that already made it to the
+     * database (e.g. the process died after the commit but before the journal was updated).
+     */
+    @Transactional
+    public int writeBatch(List<GradedSubmission> submissions) {
+        Set<String> existing = attemptRepository.findExistingSubmissionIds(
+                submissions.stream().map(GradedSubmission::submissionId).toList());
+
+        List<QuizAttempt> attempts = new ArrayList<>(submissions.size());
+        for (GradedSubmission submission : submissions) {
+            if (existing.contains(submission.submissionId())) {
+                log.debug("Submission {} already persisted, skipping", submission.submissionId());
+                continue;
+            }
+            attempts.add(toEntity(submission));
+        }
+        attemptRepository.saveAll(attempts);
+        return attempts.size();
+    }
+
+    /**
+     * @return the ids among {@code submissionIds} that already have a stored attempt
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findPersisted(List<String> submissionIds) {
+        return attemptRepository.findExistingSubmissionIds(submissionIds);
+    }
+
+    private QuizAttempt toEntity(GradedSubmission submission) {
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setSubmissionId(submission.submissionId());
+        attempt.setUser(userRepository.getReferenceById(submission.userId()));
+        attempt.setQuiz(quizRepository.getReferenceById(submission.quizId()));
+        attempt.setScore(submission.score());
+        attempt.setTotalQuestions(submission.totalQuestions());
+        attempt.setAttemptedAt(submission.attemptedAt());
+        attempt.setShuffleSeed(submission.shuffleSeed());
+
+        for (GradedSubmission.Answer answer : submission.answers()) {
+            UserAnswer userAnswer = new UserAnswer();
+            userAnswer.setAttempt(attempt);
+            userAnswer.setQuestion(questionRepository.getReferenceById(answer.questionId()));
+            if (answer.selectedOptionIds() != null) {
+                userAnswer.getSelectedOptionIds().addAll(answer.selectedOptionIds());
+            }
+            userAnswer.setAnswerText(answer.answerText());
+            attempt.getAnswers().add(userAnswer);
+        }
+        return attempt;
+    }
+}
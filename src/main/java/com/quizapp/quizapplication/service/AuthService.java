@@ -6,14 +6,17 @@ import com.quizapp.quizapplication.dto.RegisterRequest;
 import com.quizapp.quizapplication.entity.User;
 import com.quizapp.quizapplication.enums.Role;
 import com.quizapp.quizapplication.exception.AuthenticationFailedException;
+import com.quizapp.quizapplication.exception.PasswordHashingBusyException;
 import com.quizapp.quizapplication.exception.UserAlreadyExistsException;
 import com.quizapp.quizapplication.repository.UserRepository;
-import com.quizapp.quizapplication.security.*;
+import com.quizapp.quizapplication.security.CustomUserDetails;
 import com.quizapp.quizapplication.security.JwtUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -29,6 +32,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final LoginMetrics loginMetrics;
 
 
     public AuthResponse register(RegisterRequest request) {
@@ -58,21 +62,35 @@ public class AuthService {
         return response;
     }
 
+    @Timed(value = "auth.login", histogram = true)
     public AuthResponse login(LoginRequest request) {
-        log.info("User attempting login: {}", request.getUsername());
+        log.debug("User attempting login: {}", request.getUsername());
+        long start = System.nanoTime();
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
             );
             String token = jwtUtils.generateToken((UserDetails) authentication.getPrincipal());
+            loginMetrics.recordSuccess(System.nanoTime() - start);
             log.info("User {} logged in successfully", request.getUsername());
 
             AuthResponse response = new AuthResponse();
             response.setToken(token);
             return response;
         } catch (BadCredentialsException e) {
+            loginMetrics.recordFailure(System.nanoTime() - start);
             log.error("Authentication failed for username={}", request.getUsername());
             throw new AuthenticationFailedException("Invalid username or password");
+        } catch (PasswordHashingBusyException e) {
+            loginMetrics.recordRejected();
+            throw e;
+        } catch (InternalAuthenticationServiceException e) {
+            // The provider wraps anything thrown while hashing for an unknown username
+            if (e.getCause() instanceof PasswordHashingBusyException busy) {
+                loginMetrics.recordRejected();
+                throw busy;
+            }
+            throw e;
         }
     }
 }
@@ -0,0 +1,299 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.ExamSessionResponse;
+import com.quizapp.quizapplication.dto.QuizResponse;
+import com.quizapp.quizapplication.dto.ScoreResponse;
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.event.ExamSessionExpiredEvent;
+import com.quizapp.quizapplication.exception.AccessDeniedException;
+import com.quizapp.quizapplication.exception.AttemptNotFoundException;
+import com.quizapp.quizapplication.exception.ExamSessionClosedException;
+import com.quizapp.quizapplication.exception.InvalidAnswerException;
+import com.quizapp.quizapplication.exception.InvalidQuestionException;
+import com.quizapp.quizapplication.security.CustomUserDetails;
+import com.quizapp.quizapplication.session.ExamSession;
+import com.quizapp.quizapplication.session.ExamSessionStore;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Timed exams: start, autosave and submit against an {@link ExamSessionStore} session.
+ * Saves never reach the database; the attempt is graded and recorded once, on submit or
+ * when the deadline passes, through the same path as {@link AttemptService#submitAnswers}.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ExamSessionService {
+
+    private static final int MAX_TEXT_LENGTH = 300;
+
+    private final AnswerKeyCache answerKeyCache;
+    private final ExamSessionStore sessionStore;
+    private final AttemptService attemptService;
+    private final QuizPayloadCache quizPayloadCache;
+    private final Clock clock;
+
+    public ExamSessionResponse start(Long quizId) {
+        Long userId = getCurrentUserId();
+        ExamSession session = sessionStore.open(userId, answerKeyCache.get(quizId));
+        log.debug("Exam session {} for quizId={} userId={}", session.getId(), quizId, userId);
+
+        session.lock().lock();
+        try {
+            return toResponse(session, true);
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    public ExamSessionResponse getSession(String sessionId) {
+        ExamSession session = findOwnSession(sessionId);
+        session.lock().lock();
+        try {
+            requireOpen(session);
+            return toResponse(session, true);
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    /**
+     * This session's view of the quiz: the drawn questions in its order, built over the cached
+     * payload rather than loaded per candidate.
+     */
+    public QuizResponse getSessionQuiz(String sessionId) {
+        ExamSession session = findOwnSession(sessionId);
+        return session.getLayout().apply(quizPayloadCache.get(session.getQuizId()).value());
+    }
+
+    /**
+     * Stores the given answers over the saved ones. Entries without a selection or text clear
+     * the saved answer; questions not mentioned keep theirs.
+     */
+    public ExamSessionResponse saveProgress(String sessionId, SubmitAnswerRequest request) {
+        ExamSession session = findOwnSession(sessionId);
+        List<PendingAnswer> answers = parse(session, request);
+
+        session.lock().lock();
+        try {
+            requireOpen(session);
+            if (clock.millis() > session.getClosesAtMillis()) {
+                throw new ExamSessionClosedException("Time is up for this exam");
+            }
+            apply(session, answers);
+            return toResponse(session, false);
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    /**
+     * Saves any final answers, grades the session and records the attempt. Final answers follow
+     * the {@link #saveProgress} rules: entries without a selection or text clear the saved
+     * answer, questions not mentioned keep theirs. Answers arriving after the grace period are
+     * ignored and the session is graded as saved.
+     */
+    public ScoreResponse submit(String sessionId, SubmitAnswerRequest request) {
+        ExamSession session = findOwnSession(sessionId);
+        List<PendingAnswer> answers = request == null ? List.of() : parse(session, request);
+
+        session.lock().lock();
+        try {
+            requireOpen(session);
+            if (clock.millis() <= session.getClosesAtMillis()) {
+                apply(session, answers);
+            }
+            GradedSubmission submission = finish(session, false);
+
+            ScoreResponse response = new ScoreResponse();
+            response.setScore(submission.score());
+            response.setTotal(submission.totalQuestions());
+            return response;
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onSessionExpired(ExamSessionExpiredEvent event) {
+        ExamSession session = event.session();
+        session.lock().lock();
+        try {
+            if (session.isFinished()) {
+                return;
+            }
+            GradedSubmission submission = finish(session, true);
+            log.debug("Exam session {} timed out, auto-submitted with score {}/{}",
+                    session.getId(), submission.score(), submission.totalQuestions());
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    // Caller holds the session lock. The session stays open if recording fails, so a client can retry.
+    private GradedSubmission finish(ExamSession session, boolean expired) {
+        GradedSubmission submission = grade(session);
+        attemptService.record(submission, expired);
+        session.markFinished();
+        sessionStore.remove(session);
+        return submission;
+    }
+
+    /**
+     * Only the drawn questions are graded; unanswered ones count toward the total but store no
+     * answer row. The session id is the submission id, so replaying the write-behind journal
+     * cannot record the exam twice.
+     */
+    static GradedSubmission grade(ExamSession session) {
+        AnswerKey answerKey = session.getAnswerKey();
+        QuizLayout layout = session.getLayout();
+        int score = 0;
+        List<GradedSubmission.Answer> answers = new ArrayList<>(layout.size());
+        for (int position = 0; position < layout.size(); position++) {
+            int i = layout.questionIndexAt(position);
+            Long questionId = answerKey.questionIdAt(i);
+            boolean isCorrect;
+            if (answerKey.typeAt(i) == QuestionType.TEXT) {
+                String text = session.answerTextAt(i);
+                if (text == null) {
+                    continue;
+                }
+                isCorrect = answerKey.isCorrectText(i, text);
+                answers.add(new GradedSubmission.Answer(questionId, null, text, isCorrect));
+            } else {
+                long[] selected = session.selectedOptionIdsAt(i);
+                if (selected == null) {
+                    continue;
+                }
+                isCorrect = answerKey.isCorrectSelection(i, selected);
+                answers.add(new GradedSubmission.Answer(questionId, toList(selected), null, isCorrect));
+            }
+            if (isCorrect) score++;
+        }
+        return new GradedSubmission(session.getId(), session.getUserId(), session.getQuizId(),
+                score, layout.size(), LocalDateTime.now(), answers, layout.getSeed());
+    }
+
+    // Validated in full before anything is applied, so a rejected save changes nothing
+    private static List<PendingAnswer> parse(ExamSession session, SubmitAnswerRequest request) {
+        AnswerKey answerKey = session.getAnswerKey();
+        if (request.getAnswers() == null) {
+            return List.of();
+        }
+        List<PendingAnswer> answers = new ArrayList<>(request.getAnswers().size());
+        for (SubmitAnswerRequest.AnswerEntry entry : request.getAnswers()) {
+            int index = answerKey.indexOf(entry.getQuestionId());
+            if (index < 0 || !session.getLayout().contains(index)) {
+                throw new InvalidQuestionException("Invalid question ID");
+            }
+            if (answerKey.typeAt(index) == QuestionType.TEXT) {
+                String text = entry.getAnswerText();
+                if (text != null && text.length() > MAX_TEXT_LENGTH) {
+                    throw new InvalidAnswerException("Text answer must be under 300 characters");
+                }
+                answers.add(new PendingAnswer(index, null, text));
+                continue;
+            }
+
+            List<Long> selected = entry.getSelectedOptionIds();
+            if (selected == null || selected.isEmpty()) {
+                answers.add(new PendingAnswer(index, null, null));
+                continue;
+            }
+            if (selected.size() > AnswerKey.MAX_SELECTED_OPTIONS) {
+                throw new InvalidAnswerException("Too many options selected");
+            }
+            AttemptService.requireKnownOptions(answerKey, index, selected);
+            long[] sorted = selected.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            if (answerKey.typeAt(index) == QuestionType.SINGLE_CHOICE && sorted.length != 1) {
+                throw new InvalidAnswerException("Single choice allows only one selection");
+            }
+            answers.add(new PendingAnswer(index, sorted, null));
+        }
+        return answers;
+    }
+
+    private static void apply(ExamSession session, List<PendingAnswer> answers) {
+        for (PendingAnswer answer : answers) {
+            if (session.getAnswerKey().typeAt(answer.index()) == QuestionType.TEXT) {
+                session.saveText(answer.index(), answer.text());
+            } else {
+                session.saveSelection(answer.index(), answer.selection());
+            }
+        }
+    }
+
+    private ExamSession findOwnSession(String sessionId) {
+        ExamSession session = sessionStore.get(sessionId);
+        if (session == null) {
+            throw new AttemptNotFoundException("Exam session not found or already submitted");
+        }
+        Long userId = getCurrentUserId();
+        if (session.getUserId() != userId) {
+            log.warn("User id={} tried to use exam session {} of another user", userId, sessionId);
+            throw new AccessDeniedException("Access denied");
+        }
+        return session;
+    }
+
+    private static void requireOpen(ExamSession session) {
+        if (session.isFinished()) {
+            throw new AttemptNotFoundException("Exam session not found or already submitted");
+        }
+    }
+
+    // Caller holds the session lock
+    private ExamSessionResponse toResponse(ExamSession session, boolean withAnswers) {
+        AnswerKey answerKey = session.getAnswerKey();
+        ExamSessionResponse response = new ExamSessionResponse();
+        response.setSessionId(session.getId());
+        response.setQuizId(session.getQuizId());
+        response.setStartedAt(session.getStartedAt());
+        response.setDeadline(LocalDateTime.ofInstant(Instant.ofEpochMilli(session.getDeadlineMillis()), ZoneId.systemDefault()));
+        response.setRemainingSeconds(Math.max(0, (session.getDeadlineMillis() - clock.millis()) / 1000));
+        if (withAnswers) {
+            QuizLayout layout = session.getLayout();
+            List<SubmitAnswerRequest.AnswerEntry> answers = new ArrayList<>();
+            for (int position = 0; position < layout.size(); position++) {
+                int i = layout.questionIndexAt(position);
+                long[] selected = session.selectedOptionIdsAt(i);
+                String text = session.answerTextAt(i);
+                if (selected == null && text == null) {
+                    continue;
+                }
+                SubmitAnswerRequest.AnswerEntry entry = new SubmitAnswerRequest.AnswerEntry();
+                entry.setQuestionId(answerKey.questionIdAt(i));
+                entry.setSelectedOptionIds(selected == null ? null : toList(selected));
+                entry.setAnswerText(text);
+                answers.add(entry);
+            }
+            response.setAnswers(answers);
+        }
+        return response;
+    }
+
+    private static List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    private Long getCurrentUserId() {
+        return ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUser().getId();
+    }
+
+    private record PendingAnswer(int index, long[] selection, String text) {
+    }
+}
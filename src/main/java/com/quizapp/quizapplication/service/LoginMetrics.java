@@ -0,0 +1,102 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.LoginStatsResponse;
+import com.quizapp.quizapplication.security.PasswordHashingExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Login outcome counters plus a one-minute ring of per-second buckets for throughput and
+ * latency. A bucket is reset by the first login of a new second; a login racing that reset
+ * may be dropped, which is acceptable for a dashboard figure.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginMetrics {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyTotalNanos = new LongAdder();
+    private final LongAccumulator latencyMaxNanos = new LongAccumulator(Math::max, 0);
+
+    private final AtomicLongArray bucketSecond = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray bucketLogins = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray bucketLatencyNanos = new AtomicLongArray(WINDOW_SECONDS);
+
+    public void recordSuccess(long latencyNanos) {
+        succeeded.increment();
+        recordLatency(latencyNanos);
+    }
+
+    public void recordFailure(long latencyNanos) {
+        failed.increment();
+        recordLatency(latencyNanos);
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latencyTotalNanos.add(latencyNanos);
+        latencyMaxNanos.accumulate(latencyNanos);
+
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        long stamp = bucketSecond.get(slot);
+        if (stamp != second && bucketSecond.compareAndSet(slot, stamp, second)) {
+            bucketLogins.set(slot, 0);
+            bucketLatencyNanos.set(slot, 0);
+        }
+        bucketLogins.incrementAndGet(slot);
+        bucketLatencyNanos.addAndGet(slot, latencyNanos);
+    }
+
+    public LoginStatsResponse getStats() {
+        LoginStatsResponse stats = new LoginStatsResponse();
+        long completed = succeeded.sum() + failed.sum();
+        stats.setSucceeded(succeeded.sum());
+        stats.setFailed(failed.sum());
+        stats.setRejected(rejected.sum());
+        stats.setAvgLatencyMs(completed == 0 ? 0 : latencyTotalNanos.sum() / completed / 1_000_000.0);
+        stats.setMaxLatencyMs(latencyMaxNanos.get() / 1_000_000.0);
+
+        // Only whole seconds count: the current one is still filling up
+        long now = System.currentTimeMillis() / 1000;
+        long windowLogins = 0;
+        long windowLatencyNanos = 0;
+        long peak = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            long second = bucketSecond.get(i);
+            if (second >= now - WINDOW_SECONDS && second < now) {
+                long logins = bucketLogins.get(i);
+                windowLogins += logins;
+                windowLatencyNanos += bucketLatencyNanos.get(i);
+                peak = Math.max(peak, logins);
+                if (second == now - 1) {
+                    stats.setLastSecondLogins(logins);
+                }
+            }
+        }
+        stats.setLoginsPerSecondLastMinute(windowLogins / (double) WINDOW_SECONDS);
+        stats.setPeakLoginsPerSecondLastMinute(peak);
+        stats.setAvgLatencyMsLastMinute(windowLogins == 0 ? 0 : windowLatencyNanos / windowLogins / 1_000_000.0);
+
+        stats.setHashingThreads(passwordHashingExecutor.getThreads());
+        stats.setHashingActive(passwordHashingExecutor.getActiveCount());
+        stats.setHashingQueueCapacity(passwordHashingExecutor.getQueueCapacity());
+        stats.setHashingQueueDepth(passwordHashingExecutor.getQueueDepth());
+        stats.setHashingCompleted(passwordHashingExecutor.getCompletedCount());
+        stats.setHashingRejected(passwordHashingExecutor.getRejectedCount());
+        return stats;
+    }
+}
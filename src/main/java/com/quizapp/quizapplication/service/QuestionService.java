@@ -8,6 +8,7 @@ import com.quizapp.quizapplication.entity.Question;
 import com.quizapp.quizapplication.entity.Quiz;
 import com.quizapp.quizapplication.entity.User;
 import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.event.QuizContentChangedEvent;
 import com.quizapp.quizapplication.exception.AccessDeniedException;
 import com.quizapp.quizapplication.exception.InvalidQuestionException;
 import com.quizapp.quizapplication.exception.QuestionNotFoundOrInactiveException;
@@ -18,8 +19,15 @@ import com.quizapp.quizapplication.repository.QuizRepository;
 import com.quizapp.quizapplication.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +37,8 @@ public class QuestionService {
     private final QuizRepository quizRepository;
     private final QuestionRepository questionRepository;
     private final OptionRepository optionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
 
     public void addQuestion(Long quizId, AddQuestionRequest request) {
@@ -50,9 +60,8 @@ public class QuestionService {
         question.setType(request.getType());
         question.setQuiz(quiz);
         question.setActive(true);
-        if (request.getType() == QuestionType.TEXT) {
-            question.setCorrectAnswerText(request.getCorrectAnswerText());
-        }
+        applyTextAnswer(question, request.getType(), request.getCorrectAnswerText(), request.getAcceptedAnswers(),
+                request.getNumericTolerance(), request.getMaxEditDistance());
         question = questionRepository.save(question);
 
         if (request.getOptions() != null && !request.getOptions().isEmpty()) {
@@ -64,42 +73,77 @@ public class QuestionService {
                 optionRepository.save(option);
             }
         }
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
         log.info("Question added successfully to quizId={}", quizId);
     }
 
     public void updateQuestion(Long questionId, UpdateQuestionRequest request) {
         log.info("Updating questionId={}", questionId);
-
-        Question question = questionRepository.findActiveById(questionId)
-                .orElseThrow(() -> new QuestionNotFoundOrInactiveException("Question not found or inactive"));
         validateQuestion(request);
 
-        User currentUser = getCurrentUser();
-        if (!question.getQuiz().getCreatedBy().getId().equals(currentUser.getId())) {
-            log.warn("User id={} tried to update question id={} without permission", currentUser.getId(), questionId);
-            throw new AccessDeniedException("Only the creator can update the question");
-        }
+        Long quizId = transactionTemplate.execute(status -> {
+            Question question = questionRepository.findActiveById(questionId)
+                    .orElseThrow(() -> new QuestionNotFoundOrInactiveException("Question not found or inactive"));
 
-        question.setText(request.getText());
-        question.setType(request.getType());
-        question.setCorrectAnswerText(request.getType() == QuestionType.TEXT ? request.getCorrectAnswerText() : null);
+            User currentUser = getCurrentUser();
+            if (!question.getQuiz().getCreatedBy().getId().equals(currentUser.getId())) {
+                log.warn("User id={} tried to update question id={} without permission", currentUser.getId(), questionId);
+                throw new AccessDeniedException("Only the creator can update the question");
+            }
 
-        // Clear existing options and add new ones
-        question.getOptions().clear();
-        questionRepository.save(question);
+            question.setText(request.getText());
+            question.setType(request.getType());
+            applyTextAnswer(question, request.getType(), request.getCorrectAnswerText(), request.getAcceptedAnswers(),
+                    request.getNumericTolerance(), request.getMaxEditDistance());
+            mergeOptions(question, request.getType() == QuestionType.TEXT ? null : request.getOptions());
+            return question.getQuiz().getId();
+        });
 
-        if (request.getOptions() != null && !request.getOptions().isEmpty()) {
-            for (AddOptionRequest optReq : request.getOptions()) {
-                Option option = new Option();
-                option.setText(optReq.getText());
-                option.setCorrect(optReq.isCorrect());
-                option.setQuestion(question);
-                optionRepository.save(option);
+        // Published after commit so caches never reload the pre-update rows
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
+        log.info("QuestionId={} updated successfully", questionId);
+    }
+
+    /**
+     * Brings the question's options in line with the request while keeping ids stable, so
+     * recorded answers still point at the same options. Options sent with an id are updated in
+     * place, options without one are inserted, and existing options left out are deleted.
+     * Unchanged options produce no SQL at all.
+     */
+    private static void mergeOptions(Question question, List<AddOptionRequest> requested) {
+        Map<Long, Option> existing = new HashMap<>();
+        for (Option option : question.getOptions()) {
+            existing.put(option.getId(), option);
+        }
+
+        List<Option> added = new ArrayList<>();
+        if (requested != null) {
+            for (AddOptionRequest optReq : requested) {
+                if (optReq.getId() == null) {
+                    Option option = new Option();
+                    option.setText(optReq.getText());
+                    option.setCorrect(optReq.isCorrect());
+                    option.setQuestion(question);
+                    added.add(option);
+                    continue;
+                }
+                Option option = existing.remove(optReq.getId());
+                if (option == null) {
+                    throw new InvalidQuestionException("Option id " + optReq.getId() + " does not belong to this question or is listed twice");
+                }
+                if (!option.getText().equals(optReq.getText())) {
+                    option.setText(optReq.getText());
+                }
+                if (option.isCorrect() != optReq.isCorrect()) {
+                    option.setCorrect(optReq.isCorrect());
+                }
             }
         }
-        questionRepository.save(question);
-        log.info("QuestionId={} updated successfully", questionId);
 
+        // Whatever was not claimed by id is gone; orphan removal deletes the rows
+        question.getOptions().removeIf(option -> existing.containsKey(option.getId()));
+        question.getOptions().addAll(added);
+        log.debug("Merged options for questionId={}: {} added, {} removed", question.getId(), added.size(), existing.size());
     }
 
     public void deleteQuestion(Long questionId) {
@@ -116,38 +160,42 @@ public class QuestionService {
 
         question.setActive(false);
         questionRepository.save(question);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(question.getQuiz().getId()));
 
         log.info("QuestionId={} marked inactive", questionId);
     }
 
+    /**
+     * Copies the TEXT grading settings onto the question, or clears them for choice types.
+     */
+    static void applyTextAnswer(Question question, QuestionType type, String correctAnswerText,
+                                List<String> acceptedAnswers, Double numericTolerance, Integer maxEditDistance) {
+        boolean text = type == QuestionType.TEXT;
+        question.setCorrectAnswerText(text ? correctAnswerText : null);
+        question.setAcceptedAnswers(text && acceptedAnswers != null ? new ArrayList<>(acceptedAnswers) : new ArrayList<>());
+        question.setNumericTolerance(text ? numericTolerance : null);
+        question.setMaxEditDistance(text ? maxEditDistance : null);
+    }
+
     private void validateQuestion(UpdateQuestionRequest request) {
-        QuestionType type = request.getType();
-        if (type == QuestionType.SINGLE_CHOICE || type == QuestionType.MULTIPLE_CHOICE) {
-            if (request.getOptions() == null || request.getOptions().isEmpty()) {
-                throw new InvalidQuestionException("Options required for choice questions");
-            }
-            long correctCount = request.getOptions().stream().filter(AddOptionRequest::isCorrect).count();
-            if (type == QuestionType.SINGLE_CHOICE && correctCount != 1) {
-                throw new InvalidQuestionException("Single choice must have exactly one correct option");
-            }
-            if (type == QuestionType.MULTIPLE_CHOICE && correctCount < 1) {
-                throw new InvalidQuestionException("Multiple choice must have at least one correct option");
-            }
-        } else if (type == QuestionType.TEXT) {
-            if (request.getCorrectAnswerText() == null || request.getCorrectAnswerText().isBlank()) {
-                throw new InvalidQuestionException("Correct answer text required for text questions");
-            }
-        }
+        validateQuestion(request.getType(), request.getOptions(), request.getCorrectAnswerText(), request.getAcceptedAnswers());
     }
 
     private void validateQuestion(AddQuestionRequest request) {
-        QuestionType type = request.getType();
+        validateQuestion(request.getType(), request.getOptions(), request.getCorrectAnswerText(), request.getAcceptedAnswers());
+    }
+
+    /**
+     * Authoring rules shared by single-question edits and bulk import.
+     */
+    static void validateQuestion(QuestionType type, List<AddOptionRequest> options, String correctAnswerText,
+                                 List<String> acceptedAnswers) {
         if (type == QuestionType.SINGLE_CHOICE || type == QuestionType.MULTIPLE_CHOICE) {
-            if (request.getOptions() == null || request.getOptions().isEmpty()) {
+            if (options == null || options.isEmpty()) {
                 throw new InvalidQuestionException("Options required for choice questions");
             }
-            long correctCount = request.getOptions().stream().filter(AddOptionRequest::isCorrect).count();  // Updated to ::isCorrect
-            log.info("Question type: {}, correct option count: {}", type, correctCount);
+            long correctCount = options.stream().filter(AddOptionRequest::isCorrect).count();
+            log.debug("Question type: {}, correct option count: {}", type, correctCount);
             if (type == QuestionType.SINGLE_CHOICE && correctCount != 1) {
                 throw new InvalidQuestionException("Single choice must have exactly one correct option");
             }
@@ -155,9 +203,17 @@ public class QuestionService {
                 throw new InvalidQuestionException("Multiple choice must have at least one correct option");
             }
         } else if (type == QuestionType.TEXT) {
-            if (request.getCorrectAnswerText() == null || request.getCorrectAnswerText().isBlank()) {
+            if (correctAnswerText == null || correctAnswerText.isBlank()) {
                 throw new InvalidQuestionException("Correct answer text required for text questions");
             }
+            if (acceptedAnswers != null) {
+                for (String accepted : acceptedAnswers) {
+                    // Stored newline-separated, see AcceptedAnswersConverter
+                    if (accepted == null || accepted.isBlank() || accepted.indexOf('\n') >= 0 || accepted.indexOf('\r') >= 0) {
+                        throw new InvalidQuestionException("Accepted answers must be non-blank single lines");
+                    }
+                }
+            }
         }
     }
 
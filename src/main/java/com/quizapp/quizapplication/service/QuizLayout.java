@@ -0,0 +1,175 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.OptionResponse;
+import com.quizapp.quizapplication.dto.QuestionResponse;
+import com.quizapp.quizapplication.dto.QuizResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Which questions one attempt gets and in what order, derived entirely from a seed and the
+ * quiz's {@link AnswerKey}. Nothing about the order is stored: the same seed against the same
+ * key always yields the same layout, so it is rebuilt wherever it is needed instead of kept.
+ * <p>
+ * Positions refer to the key's question indices (questions in id order). With a pool size
+ * the first {@code questionPoolSize} slots of a seeded Fisher-Yates shuffle are drawn; without
+ * question shuffling the drawn questions keep id order. Option order is seeded per question,
+ * so it does not depend on which other questions were drawn.
+ */
+public final class QuizLayout {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final boolean shuffleOptions;
+    private final long[] questionIds;
+    private final int[] order;
+    private final int[] drawnSorted;
+
+    private QuizLayout(long seed, boolean shuffleOptions, long[] questionIds, int[] order) {
+        this.seed = seed;
+        this.shuffleOptions = shuffleOptions;
+        this.questionIds = questionIds;
+        this.order = order;
+        this.drawnSorted = order.clone();
+        Arrays.sort(drawnSorted);
+    }
+
+    public static QuizLayout of(long seed, AnswerKey answerKey) {
+        int n = answerKey.size();
+        int drawn = answerKey.getQuestionPoolSize() == null ? n : Math.min(answerKey.getQuestionPoolSize(), n);
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+
+        if (drawn < n || answerKey.isShuffleQuestions()) {
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < drawn; i++) {
+                int j = i + random.nextInt(n - i);
+                int swap = indices[i];
+                indices[i] = indices[j];
+                indices[j] = swap;
+            }
+        }
+        int[] order = Arrays.copyOf(indices, drawn);
+        if (!answerKey.isShuffleQuestions()) {
+            Arrays.sort(order);
+        }
+
+        long[] questionIds = new long[drawn];
+        for (int position = 0; position < drawn; position++) {
+            questionIds[position] = answerKey.questionIdAt(order[position]);
+        }
+        return new QuizLayout(seed, answerKey.isShuffleOptions(), questionIds, order);
+    }
+
+    /**
+     * Whether attempts can differ in which questions they get or their order. Such quizzes are
+     * only taken through exam sessions, which keep each attempt's seed.
+     */
+    public static boolean variesPerAttempt(boolean shuffleQuestions, Integer questionPoolSize, int questionCount) {
+        return shuffleQuestions || (questionPoolSize != null && questionPoolSize < questionCount);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * @return the answer-key index of the question shown at {@code position}
+     */
+    public int questionIndexAt(int position) {
+        return order[position];
+    }
+
+    public boolean contains(int questionIndex) {
+        return Arrays.binarySearch(drawnSorted, questionIndex) >= 0;
+    }
+
+    /**
+     * Renders this attempt's view of a cached quiz. Questions and options are the cached DTOs
+     * themselves; only questions whose options are reordered get a new (shallow) wrapper.
+     * Questions the payload no longer has, e.g. deleted since the attempt started, are left out.
+     *
+     * @param quiz rendered quiz with questions in id order, as {@link QuizService} produces it
+     */
+    public QuizResponse apply(QuizResponse quiz) {
+        List<QuestionResponse> questions = quiz.getQuestions();
+        List<QuestionResponse> view = new ArrayList<>(questionIds.length);
+        for (long questionId : questionIds) {
+            QuestionResponse question = findById(questions, questionId);
+            if (question != null) {
+                view.add(shuffleOptions ? withShuffledOptions(question) : question);
+            }
+        }
+
+        QuizResponse response = new QuizResponse();
+        response.setId(quiz.getId());
+        response.setTitle(quiz.getTitle());
+        response.setTimeLimitSeconds(quiz.getTimeLimitSeconds());
+        response.setShuffleQuestions(quiz.isShuffleQuestions());
+        response.setShuffleOptions(quiz.isShuffleOptions());
+        response.setQuestionPoolSize(quiz.getQuestionPoolSize());
+        response.setQuestions(view);
+        return response;
+    }
+
+    private QuestionResponse withShuffledOptions(QuestionResponse question) {
+        List<OptionResponse> options = question.getOptions();
+        if (options == null || options.size() < 2) {
+            return question;
+        }
+        int[] permutation = optionOrder(question.getId(), options.size());
+        List<OptionResponse> shuffled = new ArrayList<>(options.size());
+        for (int index : permutation) {
+            shuffled.add(options.get(index));
+        }
+
+        QuestionResponse copy = new QuestionResponse();
+        copy.setId(question.getId());
+        copy.setText(question.getText());
+        copy.setType(question.getType());
+        copy.setOptions(shuffled);
+        return copy;
+    }
+
+    int[] optionOrder(long questionId, int optionCount) {
+        int[] permutation = new int[optionCount];
+        for (int i = 0; i < optionCount; i++) {
+            permutation[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed ^ (questionId * GOLDEN_GAMMA));
+        for (int i = optionCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = swap;
+        }
+        return permutation;
+    }
+
+    private static QuestionResponse findById(List<QuestionResponse> questions, long questionId) {
+        int low = 0;
+        int high = questions.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = questions.get(mid).getId();
+            if (midId < questionId) {
+                low = mid + 1;
+            } else if (midId > questionId) {
+                high = mid - 1;
+            } else {
+                return questions.get(mid);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.quizapp.quizapplication.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.quizapplication.cache.BoundedCache;
+import com.quizapp.quizapplication.cache.CachedPayload;
+import com.quizapp.quizapplication.dto.CacheStatsResponse;
+import com.quizapp.quizapplication.dto.QuizResponse;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.event.QuizContentChangedEvent;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.repository.QuizRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Read-through cache of fully rendered active quizzes, keyed by quiz id. Entries are dropped
+ * on every {@link QuizContentChangedEvent}. Concurrent misses for a quiz share one render,
+ * and a render that raced with a change is not cached.
+ */
+@Component
+@Log4j2
+public class QuizPayloadCache {
+
+    private final QuizRepository quizRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<Long, CachedPayload<QuizResponse>> payloads;
+
+    public QuizPayloadCache(QuizRepository quizRepository,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${quiz.payload-cache.max-size:1000}") int maxSize) {
+        this.quizRepository = quizRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.payloads = new BoundedCache<>(maxSize, 0);
+    }
+
+    public CachedPayload<QuizResponse> get(Long quizId) {
+        return payloads.getOrLoad(quizId, this::render);
+    }
+
+    private CachedPayload<QuizResponse> render(Long quizId) {
+        QuizResponse response = transactionTemplate.execute(status -> {
+            Quiz quiz = quizRepository.findActiveByIdWithQuestions(quizId)
+                    .orElseThrow(() -> {
+                        log.warn("Quiz with id={} not found or inactive", quizId);
+                        return new QuizNotFoundOrInactiveException("Quiz not found or inactive");
+                    });
+            return QuizService.mapToQuizResponse(quiz);
+        });
+
+        try {
+            return CachedPayload.of(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStatsResponse stats = new CacheStatsResponse();
+        stats.setSize(payloads.size());
+        stats.setHits(payloads.hitCount());
+        stats.setMisses(payloads.missCount());
+        stats.setEvictions(payloads.evictionCount());
+        return stats;
+    }
+
+    public void evict(Long quizId) {
+        payloads.invalidate(quizId);
+    }
+
+    @EventListener
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        evict(event.quizId());
+    }
+}
@@ -1,19 +1,27 @@
 package com.quizapp.quizapplication.service;
 
+import com.quizapp.quizapplication.cache.CachedPayload;
 import com.quizapp.quizapplication.dto.*;
+import com.quizapp.quizapplication.entity.Option;
 import com.quizapp.quizapplication.entity.Question;
 import com.quizapp.quizapplication.entity.Quiz;
 import com.quizapp.quizapplication.entity.User;
+import com.quizapp.quizapplication.enums.Role;
+import com.quizapp.quizapplication.event.QuizContentChangedEvent;
 import com.quizapp.quizapplication.exception.AccessDeniedException;
+import com.quizapp.quizapplication.exception.ExamSessionRequiredException;
 import com.quizapp.quizapplication.exception.QuestionNotFoundOrInactiveException;
 import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
 import com.quizapp.quizapplication.repository.QuizRepository;
 import com.quizapp.quizapplication.security.CustomUserDetails;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -22,6 +30,8 @@ import java.util.List;
 public class QuizService {
 
     private final QuizRepository quizRepository;
+    private final QuizPayloadCache quizPayloadCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public QuizResponse createQuiz(CreateQuizRequest request) {
         User currentUser = getCurrentUser();
@@ -30,6 +40,18 @@ public class QuizService {
 
         Quiz quiz = new Quiz();
         quiz.setTitle(request.getTitle());
+        if (request.getTimeLimitSeconds() != null) {
+            quiz.setTimeLimitSeconds(request.getTimeLimitSeconds() == 0 ? null : request.getTimeLimitSeconds());
+        }
+        if (request.getShuffleQuestions() != null) {
+            quiz.setShuffleQuestions(request.getShuffleQuestions());
+        }
+        if (request.getShuffleOptions() != null) {
+            quiz.setShuffleOptions(request.getShuffleOptions());
+        }
+        if (request.getQuestionPoolSize() != null) {
+            quiz.setQuestionPoolSize(request.getQuestionPoolSize() == 0 ? null : request.getQuestionPoolSize());
+        }
         quiz.setCreatedBy(currentUser);
         quiz.setActive(true);
         quiz = quizRepository.save(quiz);
@@ -38,24 +60,50 @@ public class QuizService {
     }
 
     public QuizResponse getQuiz(Long quizId) {
-        log.info("Fetching quiz with id={}", quizId);
+        return getQuizPayload(quizId).value();
+    }
 
-        Quiz quiz = quizRepository.findActiveById(quizId)
-                .orElseThrow(() -> {
-                    log.warn("Quiz with id={} not found or inactive", quizId);
-                    return new QuizNotFoundOrInactiveException("Quiz not found or inactive");
-                });
-        return mapToQuizResponse(quiz);
+    /**
+     * The rendered quiz with its pre-serialized JSON and ETag, served from memory after the first load.
+     * Quizzes that draw or shuffle questions per attempt are only shown in full to admins; candidates
+     * get their questions from their exam session.
+     *
+     * @throws ExamSessionRequiredException for such a quiz when the caller is not an admin
+     */
+    @Timed(value = "quiz.get", histogram = true)
+    public CachedPayload<QuizResponse> getQuizPayload(Long quizId) {
+        log.debug("Fetching quiz with id={}", quizId);
+        CachedPayload<QuizResponse> payload = quizPayloadCache.get(quizId);
+        if (requiresExamSession(payload.value()) && getCurrentUser().getRole() != Role.ADMIN) {
+            throw new ExamSessionRequiredException(AttemptService.EXAM_SESSION_REQUIRED);
+        }
+        return payload;
     }
 
+    /**
+     * Lists active quizzes. For non-admins, quizzes that draw or shuffle questions per attempt are
+     * listed without their questions.
+     */
     public List<QuizResponse> getAllActiveQuizzes() {
         log.info("Fetching all active quizzes");
 
-        return quizRepository.findAllActive().stream()
-                .map(this::mapToQuizResponse)
+        boolean admin = getCurrentUser().getRole() == Role.ADMIN;
+        return quizRepository.findAllActiveWithQuestions().stream()
+                .map(quiz -> {
+                    QuizResponse response = mapToQuizResponse(quiz);
+                    if (!admin && requiresExamSession(response)) {
+                        response.setQuestions(null);
+                    }
+                    return response;
+                })
                 .toList();
     }
 
+    static boolean requiresExamSession(QuizResponse quiz) {
+        int questionCount = quiz.getQuestions() == null ? 0 : quiz.getQuestions().size();
+        return QuizLayout.variesPerAttempt(quiz.isShuffleQuestions(), quiz.getQuestionPoolSize(), questionCount);
+    }
+
     public QuizResponse updateQuiz(Long quizId, UpdateQuizRequest request) {
         log.info("Updating quiz with id={}", quizId);
 
@@ -71,7 +119,20 @@ public class QuizService {
             throw new AccessDeniedException("Only the creator can update the quiz");
         }
         quiz.setTitle(request.getTitle());
+        if (request.getTimeLimitSeconds() != null) {
+            quiz.setTimeLimitSeconds(request.getTimeLimitSeconds() == 0 ? null : request.getTimeLimitSeconds());
+        }
+        if (request.getShuffleQuestions() != null) {
+            quiz.setShuffleQuestions(request.getShuffleQuestions());
+        }
+        if (request.getShuffleOptions() != null) {
+            quiz.setShuffleOptions(request.getShuffleOptions());
+        }
+        if (request.getQuestionPoolSize() != null) {
+            quiz.setQuestionPoolSize(request.getQuestionPoolSize() == 0 ? null : request.getQuestionPoolSize());
+        }
         quiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
 
         log.info("Quiz id={} updated successfully", quizId);
 
@@ -94,22 +155,29 @@ public class QuizService {
         }
         quiz.setActive(false);
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
 
         log.info("Quiz id={} marked inactive (soft deleted)", quizId);
     }
 
-    private QuizResponse mapToQuizResponse(Quiz quiz) {
+    static QuizResponse mapToQuizResponse(Quiz quiz) {
         QuizResponse response = new QuizResponse();
         response.setId(quiz.getId());
         response.setTitle(quiz.getTitle());
+        response.setTimeLimitSeconds(quiz.getTimeLimitSeconds());
+        response.setShuffleQuestions(quiz.isShuffleQuestions());
+        response.setShuffleOptions(quiz.isShuffleOptions());
+        response.setQuestionPoolSize(quiz.getQuestionPoolSize());
+        // Id order is the canonical order QuizLayout indexes into
         response.setQuestions(quiz.getQuestions().stream()
                 .filter(Question::isActive)
+                .sorted(Comparator.comparing(Question::getId))
                 .map(q -> {
                     QuestionResponse qr = new QuestionResponse();
                     qr.setId(q.getId());
                     qr.setText(q.getText());
                     qr.setType(q.getType());
-                    qr.setOptions(q.getOptions().stream().map(o -> {
+                    qr.setOptions(q.getOptions().stream().sorted(Comparator.comparing(Option::getId)).map(o -> {
                         OptionResponse or = new OptionResponse();
                         or.setId(o.getId());
                         or.setText(o.getText());
@@ -0,0 +1,190 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.LeaderboardEntryResponse;
+import com.quizapp.quizapplication.dto.QuizStatsResponse;
+import com.quizapp.quizapplication.event.AttemptRecordedEvent;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Incrementally maintained per-quiz aggregates: attempt count, score sums, a percentage
+ * histogram and the top-K attempts. Updated from {@link AttemptRecordedEvent}s and rebuilt
+ * from {@code quiz_attempts} once at startup, so reads never scan the table.
+ */
+@Component
+@Log4j2
+public class QuizStatsStore implements SmartInitializingSingleton {
+
+    private static final int HISTOGRAM_BUCKETS = 11;
+
+    // Percentage first so that totals changed by question edits compare fairly, then raw score
+    private static final Comparator<RankedAttempt> RANKING = ((Comparator<RankedAttempt>) QuizStatsStore::byPercentage)
+            .thenComparing(Comparator.comparingInt(RankedAttempt::score).reversed())
+            .thenComparing(RankedAttempt::attemptedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(RankedAttempt::sequence);
+
+    private final DataSource dataSource;
+    private final QuizPayloadCache quizPayloadCache;
+    private final int leaderboardSize;
+    private final ConcurrentMap<Long, QuizStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public QuizStatsStore(DataSource dataSource,
+                          QuizPayloadCache quizPayloadCache,
+                          @Value("${quiz.stats.leaderboard-size:100}") int leaderboardSize) {
+        this.dataSource = dataSource;
+        this.quizPayloadCache = quizPayloadCache;
+        this.leaderboardSize = leaderboardSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // Stream the table rather than buffer it; see AttemptStreamWriter
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        AtomicLong rows = new AtomicLong();
+        jdbcTemplate.query("SELECT quiz_id, user_id, score, total_questions, attempted_at FROM quiz_attempts", rs -> {
+            Timestamp attemptedAt = rs.getTimestamp("attempted_at");
+            record(rs.getLong("quiz_id"), rs.getLong("user_id"), rs.getInt("score"), rs.getInt("total_questions"),
+                    attemptedAt == null ? null : attemptedAt.toLocalDateTime());
+            rows.incrementAndGet();
+        });
+        log.info("Rebuilt quiz stats from {} attempts in {} ms", rows.get(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        GradedSubmission submission = event.submission();
+        record(submission.quizId(), submission.userId(), submission.score(), submission.totalQuestions(), submission.attemptedAt());
+    }
+
+    /**
+     * @throws QuizNotFoundOrInactiveException if the quiz does not exist or was deleted
+     */
+    public QuizStatsResponse getStats(Long quizId) {
+        requireActive(quizId);
+        QuizStats quizStats = stats.get(quizId);
+        QuizStatsResponse response = new QuizStatsResponse();
+        response.setQuizId(quizId);
+        if (quizStats == null) {
+            response.setPercentageHistogram(new ArrayList<>(Collections.nCopies(HISTOGRAM_BUCKETS, 0L)));
+            return response;
+        }
+        quizStats.lock.lock();
+        try {
+            response.setAttempts(quizStats.count);
+            if (quizStats.count > 0) {
+                response.setMeanScore((double) quizStats.scoreSum / quizStats.count);
+                response.setMeanPercentage(quizStats.percentageSum / quizStats.count);
+            }
+            List<Long> histogram = new ArrayList<>(HISTOGRAM_BUCKETS);
+            for (long bucket : quizStats.histogram) {
+                histogram.add(bucket);
+            }
+            response.setPercentageHistogram(histogram);
+        } finally {
+            quizStats.lock.unlock();
+        }
+        return response;
+    }
+
+    /**
+     * Best attempts by percentage, then raw score, then earliest.
+     *
+     * @throws QuizNotFoundOrInactiveException if the quiz does not exist or was deleted
+     */
+    public List<LeaderboardEntryResponse> getLeaderboard(Long quizId, int limit) {
+        requireActive(quizId);
+        QuizStats quizStats = stats.get(quizId);
+        if (quizStats == null) {
+            return List.of();
+        }
+        int size = Math.min(limit, leaderboardSize);
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(size);
+        quizStats.lock.lock();
+        try {
+            Iterator<RankedAttempt> it = quizStats.top.iterator();
+            for (int rank = 1; rank <= size && it.hasNext(); rank++) {
+                RankedAttempt attempt = it.next();
+                LeaderboardEntryResponse entry = new LeaderboardEntryResponse();
+                entry.setRank(rank);
+                entry.setUserId(attempt.userId());
+                entry.setScore(attempt.score());
+                entry.setTotal(attempt.total());
+                entry.setAttemptedAt(attempt.attemptedAt());
+                entries.add(entry);
+            }
+        } finally {
+            quizStats.lock.unlock();
+        }
+        return entries;
+    }
+
+    // Served from the rendered-quiz cache, so the check costs no query for quizzes in use
+    private void requireActive(Long quizId) {
+        quizPayloadCache.get(quizId);
+    }
+
+    // Higher percentage first, compared exactly as score/total fractions; no questions counts as 0%
+    private static int byPercentage(RankedAttempt a, RankedAttempt b) {
+        long aScore = a.total() == 0 ? 0 : a.score();
+        long bScore = b.total() == 0 ? 0 : b.score();
+        long aTotal = Math.max(1, a.total());
+        long bTotal = Math.max(1, b.total());
+        return Long.compare(bScore * aTotal, aScore * bTotal);
+    }
+
+    private void record(Long quizId, Long userId, int score, int total, LocalDateTime attemptedAt) {
+        QuizStats quizStats = stats.computeIfAbsent(quizId, id -> new QuizStats());
+        double percentage = total == 0 ? 0 : 100.0 * score / total;
+        int bucket = Math.min(HISTOGRAM_BUCKETS - 1, (int) (percentage / 10));
+        RankedAttempt ranked = new RankedAttempt(userId, score, total, attemptedAt, sequence.incrementAndGet());
+
+        quizStats.lock.lock();
+        try {
+            quizStats.count++;
+            quizStats.scoreSum += score;
+            quizStats.percentageSum += percentage;
+            quizStats.histogram[bucket]++;
+            quizStats.top.add(ranked);
+            if (quizStats.top.size() > leaderboardSize) {
+                quizStats.top.pollLast();
+            }
+        } finally {
+            quizStats.lock.unlock();
+        }
+    }
+
+    private static final class QuizStats {
+        final ReentrantLock lock = new ReentrantLock();
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        final TreeSet<RankedAttempt> top = new TreeSet<>(RANKING);
+        long count;
+        long scoreSum;
+        double percentageSum;
+    }
+
+    private record RankedAttempt(Long userId, int score, int total, LocalDateTime attemptedAt, long sequence) {
+    }
+}
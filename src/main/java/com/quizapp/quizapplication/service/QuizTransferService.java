@@ -0,0 +1,353 @@
+package com.quizapp.quizapplication.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.quizapplication.dto.AddOptionRequest;
+import com.quizapp.quizapplication.dto.AddQuestionRequest;
+import com.quizapp.quizapplication.dto.ImportReport;
+import com.quizapp.quizapplication.dto.ImportRowError;
+import com.quizapp.quizapplication.entity.Option;
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.entity.User;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.event.QuizContentChangedEvent;
+import com.quizapp.quizapplication.exception.AccessDeniedException;
+import com.quizapp.quizapplication.exception.InvalidQuestionException;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.repository.QuestionRepository;
+import com.quizapp.quizapplication.repository.QuizRepository;
+import com.quizapp.quizapplication.security.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk quiz import and export. Documents have the shape
+ * {@code {"title": "...", <quiz settings>, "questions": [AddQuestionRequest, ...]}}, where the
+ * optional settings are {@code timeLimitSeconds}, {@code shuffleQuestions}, {@code shuffleOptions}
+ * and {@code questionPoolSize}. They are read and written token by token, so only one chunk
+ * of questions is ever held in memory. Each chunk is persisted in its own transaction; rows already committed stay when a later chunk fails.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class QuizTransferService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int EXPORT_PAGE_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ImportReport importQuiz(InputStream in) throws IOException {
+        User currentUser = getCurrentUser();
+        ImportReport report = new ImportReport();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidQuestionException("Quiz document must be a JSON object");
+            }
+            // Quiz-level fields must precede the questions; they are collected here until then
+            Quiz quiz = new Quiz();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "title" -> quiz.setTitle(parser.getValueAsString());
+                    case "timeLimitSeconds" -> quiz.setTimeLimitSeconds(readPositiveInt(parser, field));
+                    case "shuffleQuestions" -> quiz.setShuffleQuestions(parser.getValueAsBoolean());
+                    case "shuffleOptions" -> quiz.setShuffleOptions(parser.getValueAsBoolean());
+                    case "questionPoolSize" -> quiz.setQuestionPoolSize(readPositiveInt(parser, field));
+                    case "questions" -> {
+                        if (parser.currentToken() != JsonToken.START_ARRAY) {
+                            throw new InvalidQuestionException("\"questions\" must be an array");
+                        }
+                        // Anything after the questions array is ignored; the report is final at this point
+                        report.setQuizId(createQuiz(quiz, currentUser));
+                        importQuestions(parser, report);
+                        return report;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            report.setQuizId(createQuiz(quiz, currentUser));
+            report.setCompleted(true);
+            return report;
+        }
+    }
+
+    public StreamingResponseBody exportQuiz(Long quizId) {
+        Quiz quiz = quizRepository.findActiveById(quizId)
+                .orElseThrow(() -> new QuizNotFoundOrInactiveException("Quiz not found or inactive"));
+
+        User currentUser = getCurrentUser();
+        if (!quiz.getCreatedBy().getId().equals(currentUser.getId())) {
+            log.warn("User id={} tried to export quiz id={} without permission", currentUser.getId(), quizId);
+            throw new AccessDeniedException("Only the creator can export the quiz");
+        }
+
+        log.info("Exporting quizId={} for userId={}", quizId, currentUser.getId());
+        return out -> writeQuiz(quiz, out);
+    }
+
+    private Long createQuiz(Quiz quiz, User creator) {
+        if (quiz.getTitle() == null || quiz.getTitle().isBlank()) {
+            throw new InvalidQuestionException("Quiz title is required and must precede the questions");
+        }
+        quiz.setCreatedBy(creator);
+        quiz.setActive(true);
+        Long quizId = quizRepository.save(quiz).getId();
+        log.info("Importing into new quizId={} '{}' for userId={}", quizId, quiz.getTitle(), creator.getId());
+        return quizId;
+    }
+
+    private static Integer readPositiveInt(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT || parser.getIntValue() <= 0) {
+            throw new InvalidQuestionException("\"" + field + "\" must be a positive integer");
+        }
+        return parser.getIntValue();
+    }
+
+    private void importQuestions(JsonParser parser, ImportReport report) throws IOException {
+        JsonStreamContext questionsContext = parser.getParsingContext();
+        List<AddQuestionRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                int row = report.getQuestionsRead() + 1;
+                report.setQuestionsRead(row);
+
+                AddQuestionRequest request;
+                try {
+                    request = objectMapper.readValue(parser, AddQuestionRequest.class);
+                } catch (JsonMappingException ex) {
+                    // Well-formed JSON of the wrong shape: skip the rest of this row and carry on
+                    reject(report, row, ex.getOriginalMessage());
+                    skipToContext(parser, questionsContext);
+                    continue;
+                }
+
+                String violation = validate(request);
+                if (violation != null) {
+                    reject(report, row, violation);
+                    continue;
+                }
+
+                chunk.add(request);
+                if (chunk.size() == CHUNK_SIZE) {
+                    persistChunk(report, chunk);
+                }
+            }
+            persistChunk(report, chunk);
+            report.setCompleted(true);
+            log.info("Import into quizId={} finished: {} imported, {} rejected",
+                    report.getQuizId(), report.getQuestionsImported(), report.getQuestionsRejected());
+
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Import into quizId={} aborted after {} rows: {}",
+                    report.getQuizId(), report.getQuestionsRead(), ex.getMessage());
+            report.setAbortReason(ex.getMessage());
+        } finally {
+            if (report.getQuestionsImported() > 0) {
+                eventPublisher.publishEvent(new QuizContentChangedEvent(report.getQuizId()));
+            }
+        }
+    }
+
+    private String validate(AddQuestionRequest request) {
+        if (request == null) {
+            return "Question must be an object";
+        }
+        Set<ConstraintViolation<AddQuestionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getOptions() != null) {
+            for (AddOptionRequest option : request.getOptions()) {
+                if (option == null || option.getText() == null || option.getText().isBlank()) {
+                    return "Option text must not be blank";
+                }
+            }
+        }
+        try {
+            QuestionService.validateQuestion(request.getType(), request.getOptions(), request.getCorrectAnswerText(),
+                    request.getAcceptedAnswers());
+            return null;
+        } catch (InvalidQuestionException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private void persistChunk(ImportReport report, List<AddQuestionRequest> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Long quizId = report.getQuizId();
+        transactionTemplate.executeWithoutResult(status -> {
+            Quiz quiz = entityManager.getReference(Quiz.class, quizId);
+            for (AddQuestionRequest request : chunk) {
+                entityManager.persist(toEntity(request, quiz));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        report.setQuestionsImported(report.getQuestionsImported() + chunk.size());
+        chunk.clear();
+        log.info("Imported {} questions into quizId={} ({} rejected so far)",
+                report.getQuestionsImported(), quizId, report.getQuestionsRejected());
+    }
+
+    // Only the quiz's own columns are read here; the request's persistence context is gone by now
+    private void writeQuiz(Quiz quiz, OutputStream out) throws IOException {
+        Long quizId = quiz.getId();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("title", quiz.getTitle());
+            if (quiz.getTimeLimitSeconds() != null) {
+                generator.writeNumberField("timeLimitSeconds", quiz.getTimeLimitSeconds());
+            }
+            generator.writeBooleanField("shuffleQuestions", quiz.isShuffleQuestions());
+            generator.writeBooleanField("shuffleOptions", quiz.isShuffleOptions());
+            if (quiz.getQuestionPoolSize() != null) {
+                generator.writeNumberField("questionPoolSize", quiz.getQuestionPoolSize());
+            }
+            generator.writeArrayFieldStart("questions");
+
+            long after = 0;
+            int written = 0;
+            while (true) {
+                long from = after;
+                // Options are initialised inside the transaction so the connection is not held while writing
+                List<Question> page = transactionTemplate.execute(status -> {
+                    List<Question> questions = questionRepository.findActiveByQuizIdAfter(quizId, from, Limit.of(EXPORT_PAGE_SIZE));
+                    questions.forEach(question -> question.getOptions().size());
+                    return questions;
+                });
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                for (Question question : page) {
+                    writeQuestion(generator, question);
+                }
+                written += page.size();
+                after = page.get(page.size() - 1).getId();
+                generator.flush();
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            log.info("Exported {} questions from quizId={}", written, quizId);
+        }
+    }
+
+    private static void writeQuestion(JsonGenerator generator, Question question) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("text", question.getText());
+        generator.writeStringField("type", question.getType().name());
+        if (question.getType() == QuestionType.TEXT) {
+            generator.writeStringField("correctAnswerText", question.getCorrectAnswerText());
+            if (!question.getAcceptedAnswers().isEmpty()) {
+                generator.writeArrayFieldStart("acceptedAnswers");
+                for (String accepted : question.getAcceptedAnswers()) {
+                    generator.writeString(accepted);
+                }
+                generator.writeEndArray();
+            }
+            if (question.getNumericTolerance() != null) {
+                generator.writeNumberField("numericTolerance", question.getNumericTolerance());
+            }
+            if (question.getMaxEditDistance() != null) {
+                generator.writeNumberField("maxEditDistance", question.getMaxEditDistance());
+            }
+        } else {
+            generator.writeArrayFieldStart("options");
+            List<Option> options = new ArrayList<>(question.getOptions());
+            options.sort(Comparator.comparing(Option::getId));
+            for (Option option : options) {
+                generator.writeStartObject();
+                generator.writeStringField("text", option.getText());
+                generator.writeBooleanField("isCorrect", option.isCorrect());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private static Question toEntity(AddQuestionRequest request, Quiz quiz) {
+        Question question = new Question();
+        question.setText(request.getText());
+        question.setType(request.getType());
+        question.setQuiz(quiz);
+        question.setActive(true);
+        QuestionService.applyTextAnswer(question, request.getType(), request.getCorrectAnswerText(),
+                request.getAcceptedAnswers(), request.getNumericTolerance(), request.getMaxEditDistance());
+        if (request.getType() != QuestionType.TEXT) {
+            for (AddOptionRequest optReq : request.getOptions()) {
+                Option option = new Option();
+                option.setText(optReq.getText());
+                option.setCorrect(optReq.isCorrect());
+                option.setQuestion(question);
+                question.getOptions().add(option);
+            }
+        }
+        return question;
+    }
+
+    private static void reject(ImportReport report, int row, String message) {
+        report.setQuestionsRejected(report.getQuestionsRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ImportRowError(row, message));
+        }
+    }
+
+    // After a failed bind the parser may be anywhere inside the row; advance to the row's end
+    private static void skipToContext(JsonParser parser, JsonStreamContext context) throws IOException {
+        while (parser.getParsingContext() != context) {
+            if (parser.nextToken() == null) {
+                throw new InvalidQuestionException("Unexpected end of document");
+            }
+        }
+    }
+
+    private User getCurrentUser() {
+        return ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUser();
+    }
+}
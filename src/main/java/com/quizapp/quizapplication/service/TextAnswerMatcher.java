@@ -0,0 +1,324 @@
+package com.quizapp.quizapplication.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compiled grader for one TEXT question. Accepted answers that are numbers are graded
+ * numerically only: a submission that parses as a number is correct when it is within
+ * {@code numericTolerance} of one of them, and is never compared as text. The other accepted
+ * answers are normalized once at compile time (Unicode compatibility decomposition, accents and
+ * case folded, punctuation and whitespace collapsed to single spaces, {@code + - # .} kept where
+ * they carry meaning), and submissions are normalized the same way before comparing. A
+ * non-numeric submission is correct when it
+ * <ul>
+ *   <li>equals a normalized accepted answer, or</li>
+ *   <li>is within {@code maxEditDistance} edits of an accepted answer. The allowance shrinks
+ *       to one edit per four characters of the answer, so short answers must match exactly.</li>
+ * </ul>
+ * Edit distance uses Myers' bit-parallel algorithm over per-answer character masks built
+ * here, so for answers up to 64 characters a check is one pass over the normalized submission.
+ */
+public final class TextAnswerMatcher {
+
+    private static final int BIT_PARALLEL_MAX = 64;
+
+    private final String[] answers;
+    private final double[] numericAnswers;
+    private final double numericTolerance;
+    private final Pattern[] patterns;
+
+    private TextAnswerMatcher(String[] answers, double[] numericAnswers, double numericTolerance, Pattern[] patterns) {
+        this.answers = answers;
+        this.numericAnswers = numericAnswers;
+        this.numericTolerance = numericTolerance;
+        this.patterns = patterns;
+    }
+
+    public static TextAnswerMatcher compile(String correctAnswer, Collection<String> acceptedAnswers,
+                                            Double numericTolerance, Integer maxEditDistance) {
+        List<String> raw = new ArrayList<>();
+        if (correctAnswer != null) {
+            raw.add(correctAnswer);
+        }
+        if (acceptedAnswers != null) {
+            raw.addAll(acceptedAnswers);
+        }
+
+        List<String> answers = new ArrayList<>(raw.size());
+        List<Double> numbers = new ArrayList<>();
+        List<Pattern> patterns = new ArrayList<>();
+        int maxEdits = maxEditDistance == null ? 0 : maxEditDistance;
+        for (String answer : raw) {
+            if (answer == null) {
+                continue;
+            }
+            double number = parseNumber(answer);
+            if (!Double.isNaN(number)) {
+                numbers.add(number);
+                continue;
+            }
+            String normalized = normalize(answer);
+            if (normalized.isEmpty() || answers.contains(normalized)) {
+                continue;
+            }
+            answers.add(normalized);
+            int allowed = Math.min(maxEdits, normalized.length() / 4);
+            if (allowed > 0) {
+                patterns.add(new Pattern(normalized, allowed));
+            }
+        }
+
+        return new TextAnswerMatcher(
+                answers.toArray(new String[0]),
+                numbers.stream().mapToDouble(Double::doubleValue).toArray(),
+                numericTolerance == null ? 0 : numericTolerance,
+                patterns.toArray(new Pattern[0]));
+    }
+
+    public boolean matches(String answerText) {
+        if (answerText == null) {
+            return false;
+        }
+        double number = parseNumber(answerText);
+        if (!Double.isNaN(number)) {
+            for (double expected : numericAnswers) {
+                if (Math.abs(number - expected) <= numericTolerance) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String normalized = normalize(answerText);
+        for (String answer : answers) {
+            if (answer.equals(normalized)) {
+                return true;
+            }
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.withinDistance(normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Folds case, accents and compatibility forms, drops apostrophes, and turns every other run
+     * of punctuation or whitespace into a single space. {@code +} and {@code #} are kept, and
+     * so are {@code -} and {@code .} when a letter or digit follows: {@code "  Café au-lait."}
+     * becomes {@code "cafe au-lait"} and {@code "C++ / .NET"} becomes {@code "c++ .net"}.
+     */
+    public static String normalize(String text) {
+        String decomposed = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); ) {
+            int cp = decomposed.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isLetterOrDigit(cp) || isSignificantSymbol(cp, decomposed, i)) {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                pendingSpace = false;
+                sb.appendCodePoint(Character.toLowerCase(cp));
+            } else if (cp != '\'' && cp != '’' && !isCombiningMark(cp)) {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    // Signs, "C++"/"C#", and the dot in "3.14" or "node.js" change what an answer says
+    private static boolean isSignificantSymbol(int cp, String text, int next) {
+        if (cp == '+' || cp == '#') {
+            return true;
+        }
+        return (cp == '-' || cp == '.') && next < text.length() && Character.isLetterOrDigit(text.codePointAt(next));
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCombiningMark(int cp) {
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    /**
+     * Parses a plain decimal such as {@code "-3.14"} or {@code "2,5"}, returning NaN for anything
+     * else. Commas grouping digits in threes, as in {@code "1,000"} or {@code "12,345.6"}, are
+     * thousands separators; a single other comma is a decimal separator. Checked by hand so that
+     * non-numeric answers never pay for a NumberFormatException.
+     */
+    static double parseNumber(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (start == end) {
+            return Double.NaN;
+        }
+
+        int i = start;
+        if (text.charAt(i) == '-' || text.charAt(i) == '+') {
+            i++;
+        }
+        int digits = 0;
+        int commas = 0;
+        int dot = -1;
+        for (int j = i; j < end; j++) {
+            char c = text.charAt(j);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && dot < 0) {
+                dot = j;
+            } else if (c == ',' && dot < 0) {
+                commas++;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        String number = text.substring(start, end);
+        if (commas == 0) {
+            return Double.parseDouble(number);
+        }
+        if (isGroupedInThousands(text, i, dot < 0 ? end : dot)) {
+            return Double.parseDouble(number.replace(",", ""));
+        }
+        if (commas == 1 && dot < 0) {
+            return Double.parseDouble(number.replace(',', '.'));
+        }
+        return Double.NaN;
+    }
+
+    // "1,000" or "12,345,678": a lead group of one to three digits, then comma-separated threes
+    private static boolean isGroupedInThousands(String text, int from, int to) {
+        int run = 0;
+        boolean leadGroup = true;
+        for (int j = from; j < to; j++) {
+            if (text.charAt(j) != ',') {
+                run++;
+            } else if (run == 0 || run > 3 || (!leadGroup && run != 3)) {
+                return false;
+            } else {
+                leadGroup = false;
+                run = 0;
+            }
+        }
+        return !leadGroup && run == 3;
+    }
+
+    /**
+     * One accepted answer prepared for bounded Levenshtein checks: the bit mask of positions
+     * each distinct character occupies, kept in parallel arrays for an allocation-free lookup.
+     */
+    private static final class Pattern {
+        private final String text;
+        private final int maxEdits;
+        private final char[] chars;
+        private final long[] masks;
+
+        Pattern(String text, int maxEdits) {
+            this.text = text;
+            this.maxEdits = maxEdits;
+            if (text.length() > BIT_PARALLEL_MAX) {
+                this.chars = null;
+                this.masks = null;
+                return;
+            }
+            StringBuilder distinct = new StringBuilder();
+            for (int i = 0; i < text.length(); i++) {
+                if (distinct.indexOf(String.valueOf(text.charAt(i))) < 0) {
+                    distinct.append(text.charAt(i));
+                }
+            }
+            this.chars = distinct.toString().toCharArray();
+            this.masks = new long[chars.length];
+            for (int i = 0; i < text.length(); i++) {
+                masks[indexOf(text.charAt(i))] |= 1L << i;
+            }
+        }
+
+        private int indexOf(char c) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean withinDistance(String candidate) {
+            if (Math.abs(candidate.length() - text.length()) > maxEdits) {
+                return false;
+            }
+            if (chars == null) {
+                return boundedDistance(text, candidate, maxEdits) <= maxEdits;
+            }
+
+            // Myers / Hyyrö: vertical deltas of the DP column as bit vectors, score tracks D[m][j]
+            int m = text.length();
+            long highBit = 1L << (m - 1);
+            long pv = m == 64 ? -1L : (1L << m) - 1;
+            long mv = 0;
+            int score = m;
+            for (int j = 0; j < candidate.length(); j++) {
+                int index = indexOf(candidate.charAt(j));
+                long eq = index < 0 ? 0 : masks[index];
+                long xv = eq | mv;
+                long xh = (((eq & pv) + pv) ^ pv) | eq;
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+                if ((ph & highBit) != 0) {
+                    score++;
+                } else if ((mh & highBit) != 0) {
+                    score--;
+                }
+                ph = (ph << 1) | 1;  // Row 0 grows by one per text character
+                mh <<= 1;
+                pv = mh | ~(xv | ph);
+                mv = ph & xv;
+            }
+            return score <= maxEdits;
+        }
+
+        // Fallback for answers too long for one machine word: banded two-row DP
+        private static int boundedDistance(String a, String b, int limit) {
+            int[] previous = new int[b.length() + 1];
+            int[] current = new int[b.length() + 1];
+            for (int j = 0; j <= b.length(); j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                current[0] = i;
+                int rowMin = current[0];
+                for (int j = 1; j <= b.length(); j++) {
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                    rowMin = Math.min(rowMin, current[j]);
+                }
+                if (rowMin > limit) {
+                    return rowMin;
+                }
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[b.length()];
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.quizapp.quizapplication.session;
+
+import com.quizapp.quizapplication.service.AnswerKey;
+import com.quizapp.quizapplication.service.QuizLayout;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-progress state of one timed exam. Answers are held in arrays indexed like the
+ * {@link AnswerKey} the session started with, so a save is a few array writes and the
+ * session is graded against that same key even if the quiz is edited meanwhile. The
+ * questions drawn and their order come from the session's {@link QuizLayout}; only its seed
+ * is stored with the attempt.
+ * <p>
+ * Callers hold {@link #lock()} around reads and writes of the answers.
+ */
+public final class ExamSession {
+
+    private final String id;
+    private final long userId;
+    private final AnswerKey answerKey;
+    private final QuizLayout layout;
+    private final LocalDateTime startedAt;
+    private final long deadlineMillis;
+    private final long closesAtMillis;
+
+    // Sorted, distinct option ids per question; null = unanswered
+    private final long[][] selectedOptionIds;
+    private final String[] answerTexts;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean finished;
+
+    ExamSession(String id, long userId, AnswerKey answerKey, long seed, LocalDateTime startedAt,
+                long deadlineMillis, long closesAtMillis) {
+        this.id = id;
+        this.userId = userId;
+        this.answerKey = answerKey;
+        this.layout = QuizLayout.of(seed, answerKey);
+        this.startedAt = startedAt;
+        this.deadlineMillis = deadlineMillis;
+        this.closesAtMillis = closesAtMillis;
+        this.selectedOptionIds = new long[answerKey.size()][];
+        this.answerTexts = new String[answerKey.size()];
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public Long getQuizId() {
+        return answerKey.getQuizId();
+    }
+
+    public AnswerKey getAnswerKey() {
+        return answerKey;
+    }
+
+    public QuizLayout getLayout() {
+        return layout;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * The deadline shown to the candidate, in epoch milliseconds.
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Deadline plus the grace period for answers still in flight; the session is auto-submitted then.
+     */
+    public long getClosesAtMillis() {
+        return closesAtMillis;
+    }
+
+    public ReentrantLock lock() {
+        return lock;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void markFinished() {
+        finished = true;
+    }
+
+    public long[] selectedOptionIdsAt(int index) {
+        return selectedOptionIds[index];
+    }
+
+    public String answerTextAt(int index) {
+        return answerTexts[index];
+    }
+
+    public void saveSelection(int index, long[] sortedOptionIds) {
+        selectedOptionIds[index] = sortedOptionIds;
+    }
+
+    public void saveText(int index, String answerText) {
+        answerTexts[index] = answerText;
+    }
+}
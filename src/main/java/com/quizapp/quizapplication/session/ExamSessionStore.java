@@ -0,0 +1,292 @@
+package com.quizapp.quizapplication.session;
+
+import com.quizapp.quizapplication.event.ExamSessionExpiredEvent;
+import com.quizapp.quizapplication.exception.ExamSessionLimitException;
+import com.quizapp.quizapplication.service.AnswerKey;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory store of running exam sessions. Nothing here touches the database:
+ * autosaves only write into the session's arrays and only the graded result is persisted.
+ * <p>
+ * Deadlines are tracked on a hashed timing wheel of one-second slots. A session is filed
+ * under the slot of the second it closes in; each tick visits only the slots for the seconds
+ * that have passed and publishes an {@link ExamSessionExpiredEvent} for every session that
+ * is due and still open. Sessions filed for a later revolution of the wheel stay put, and
+ * sessions finished early are dropped lazily when their slot comes round.
+ * <p>
+ * The ticker only collects due sessions: publishing, and with it grading and recording the
+ * auto-submitted attempt, runs on a small pool of expiry workers, so a burst of deadlines
+ * (a whole class on the same exam) is written in parallel instead of one after another
+ * behind a single thread. A failed expiry is filed again a few seconds later.
+ * <p>
+ * Sessions live only in this process and do not survive a restart.
+ */
+@Component
+@Log4j2
+public class ExamSessionStore implements SmartLifecycle {
+
+    private static final int WHEEL_SLOTS = 512;
+    private static final long RETRY_EXPIRY_SECONDS = 5;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int maxActive;
+    private final long graceMillis;
+    private final long untimedLimitSeconds;
+    private final long retryAfterSeconds;
+    private final int expiryThreads;
+
+    private final ConcurrentMap<String, ExamSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Owner, ExamSession> byOwner = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    // Guards the wheel and lastTickSecond, so a session is never filed into a slot a tick has just passed
+    private final Object wheelLock = new Object();
+    private final ArrayDeque<ExamSession>[] wheel;
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private long lastTickSecond;
+    private volatile boolean running;
+    private ScheduledExecutorService ticker;
+    private ExecutorService expiryWorkers;
+
+    @SuppressWarnings("unchecked")
+    public ExamSessionStore(ApplicationEventPublisher eventPublisher, Clock clock,
+                            @Value("${quiz.exam-sessions.max-active:50000}") int maxActive,
+                            @Value("${quiz.exam-sessions.grace-seconds:5}") long graceSeconds,
+                            @Value("${quiz.exam-sessions.untimed-limit-seconds:10800}") long untimedLimitSeconds,
+                            @Value("${quiz.exam-sessions.retry-after-seconds:10}") long retryAfterSeconds,
+                            @Value("${quiz.exam-sessions.expiry-threads:4}") int expiryThreads) {
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.maxActive = maxActive;
+        this.graceMillis = TimeUnit.SECONDS.toMillis(graceSeconds);
+        this.untimedLimitSeconds = untimedLimitSeconds;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.expiryThreads = expiryThreads;
+        this.wheel = new ArrayDeque[WHEEL_SLOTS];
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.lastTickSecond = currentSecond() - 1;
+    }
+
+    /**
+     * Starts a session for the user on the quiz, or returns the one already running so that
+     * starting again (e.g. after a page reload) never resets the clock.
+     *
+     * @throws ExamSessionLimitException if {@code max-active} sessions are already running
+     */
+    public ExamSession open(long userId, AnswerKey answerKey) {
+        Owner owner = new Owner(userId, answerKey.getQuizId());
+        ExamSession existing = byOwner.get(owner);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (active.incrementAndGet() > maxActive) {
+            active.decrementAndGet();
+            rejected.increment();
+            throw new ExamSessionLimitException("Too many exams in progress, please retry shortly", retryAfterSeconds);
+        }
+
+        long now = clock.millis();
+        long limitSeconds = answerKey.getTimeLimitSeconds() != null ? answerKey.getTimeLimitSeconds() : untimedLimitSeconds;
+        long deadline = now + TimeUnit.SECONDS.toMillis(limitSeconds);
+        ExamSession session = new ExamSession(UUID.randomUUID().toString(), userId, answerKey,
+                ThreadLocalRandom.current().nextLong(), LocalDateTime.now(clock), deadline, deadline + graceMillis);
+
+        existing = byOwner.putIfAbsent(owner, session);
+        if (existing != null) {
+            active.decrementAndGet();
+            return existing;
+        }
+        sessions.put(session.getId(), session);
+        schedule(session, Math.floorDiv(session.getClosesAtMillis(), 1000L));
+        started.increment();
+        return session;
+    }
+
+    public ExamSession get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Drops a finished session. Its wheel entry is discarded when the slot is next visited.
+     */
+    public void remove(ExamSession session) {
+        if (sessions.remove(session.getId(), session)) {
+            byOwner.remove(new Owner(session.getUserId(), session.getQuizId()), session);
+            active.decrementAndGet();
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public long getStarted() {
+        return started.sum();
+    }
+
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void schedule(ExamSession session, long second) {
+        synchronized (wheelLock) {
+            // Never file into a slot the ticker has already passed this revolution
+            long due = Math.max(second, lastTickSecond + 1);
+            wheel[(int) Math.floorMod(due, WHEEL_SLOTS)].add(session);
+        }
+    }
+
+    void tick() {
+        tick(clock.millis());
+    }
+
+    void tick(long nowMillis) {
+        // Only whole seconds are visited, so everything filed under them is due by now
+        long lastComplete = Math.floorDiv(nowMillis, 1000L) - 1;
+        List<ExamSession> due = new ArrayList<>();
+        synchronized (wheelLock) {
+            // Catches up on every second since the last tick, at most one full revolution
+            for (long second = Math.max(lastTickSecond + 1, lastComplete - WHEEL_SLOTS + 1); second <= lastComplete; second++) {
+                Iterator<ExamSession> slot = wheel[(int) Math.floorMod(second, WHEEL_SLOTS)].iterator();
+                while (slot.hasNext()) {
+                    ExamSession session = slot.next();
+                    if (sessions.get(session.getId()) != session) {
+                        slot.remove();
+                    } else if (session.getClosesAtMillis() <= nowMillis) {
+                        slot.remove();
+                        due.add(session);
+                    }
+                }
+            }
+            lastTickSecond = Math.max(lastTickSecond, lastComplete);
+        }
+        // Handed over outside the lock: without workers expiry runs inline and may file retries
+        for (ExamSession session : due) {
+            expiryExecutor().execute(() -> expire(session, nowMillis));
+        }
+    }
+
+    // Without workers (expiry-threads: 0, or before start) sessions are expired on the calling thread
+    private Executor expiryExecutor() {
+        ExecutorService workers = expiryWorkers;
+        return workers != null ? workers : Runnable::run;
+    }
+
+    private void expire(ExamSession session, long nowMillis) {
+        try {
+            eventPublisher.publishEvent(new ExamSessionExpiredEvent(session));
+            expired.increment();
+        } catch (RuntimeException e) {
+            log.error("Failed to close expired exam session {} for quizId={}, retrying in {}s: {}",
+                    session.getId(), session.getQuizId(), RETRY_EXPIRY_SECONDS, e.getMessage(), e);
+            schedule(session, Math.floorDiv(nowMillis, 1000L) + RETRY_EXPIRY_SECONDS);
+        }
+    }
+
+    private long currentSecond() {
+        return Math.floorDiv(clock.millis(), 1000L);
+    }
+
+    @Override
+    public void start() {
+        synchronized (wheelLock) {
+            lastTickSecond = currentSecond() - 1;
+        }
+        if (expiryThreads > 0) {
+            AtomicInteger workerNumber = new AtomicInteger();
+            expiryWorkers = Executors.newFixedThreadPool(expiryThreads, runnable -> {
+                Thread thread = new Thread(runnable, "exam-session-expiry-worker-" + workerNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "exam-session-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.error("Exam session expiry tick failed: {}", e.getMessage(), e);
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+        running = true;
+        log.info("Exam session store started (maxActive={}, grace={}ms, expiryThreads={})", maxActive, graceMillis, expiryThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        ticker.shutdownNow();
+        if (expiryWorkers != null) {
+            // Let auto-submits already handed over reach the write-behind queue before it stops
+            expiryWorkers.shutdown();
+            try {
+                if (!expiryWorkers.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Exam session expiry workers still busy after 10s; stopping them");
+                    expiryWorkers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                expiryWorkers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            expiryWorkers = null;
+        }
+        if (active.get() > 0) {
+            log.warn("Exam session store stopped with {} sessions in progress; they are not persisted", active.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stops after the web server and before the write-behind queue, which auto-submits still go through
+        return DEFAULT_PHASE - 3072;
+    }
+
+    private record Owner(long userId, long quizId) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.quizapp.quizapplication.submission;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A fully graded quiz submission, detached from JPA so it can be journaled and written later.
+ * {@code submissionId} is unique per submission and makes replays idempotent.
+ * {@code shuffleSeed} is set for exam sessions and rebuilds their {@code QuizLayout}.
+ */
+public record GradedSubmission(
+        String submissionId,
+        Long userId,
+        Long quizId,
+        int score,
+        int totalQuestions,
+        LocalDateTime attemptedAt,
+        List<Answer> answers,
+        Long shuffleSeed
+) {
+
+    public record Answer(Long questionId, List<Long> selectedOptionIds, String answerText, boolean correct) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.quizapp.quizapplication.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local append-only journal backing the write-behind queue. Every accepted submission is
+ * appended as an {@code A} line before it is acknowledged, and a {@code C} line is appended
+ * once it has been written to the database. Anything without a commit line is replayed
+ * on startup. The file is truncated whenever nothing is outstanding and it has grown past
+ * the compaction threshold.
+ */
+@Log4j2
+public class SubmissionJournal implements AutoCloseable {
+
+    private static final String APPENDED = "A ";
+    private static final String COMMITTED = "C ";
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final long compactThresholdBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+    private long outstanding;
+
+    public SubmissionJournal(Path file, ObjectMapper objectMapper, boolean fsync, long compactThresholdBytes) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        this.compactThresholdBytes = compactThresholdBytes;
+    }
+
+    /**
+     * Opens the journal and returns the submissions that were accepted but never committed.
+     */
+    public List<GradedSubmission> open() {
+        lock.lock();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            List<GradedSubmission> pending = Files.exists(file) ? readPending() : List.of();
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            terminateTornLine();
+            outstanding = pending.size();
+            return pending;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open submission journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void append(GradedSubmission submission) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(submission);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize submission " + submission.submissionId(), e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(APPENDED.length() + json.length + 1);
+        buffer.put(APPENDED.getBytes(StandardCharsets.US_ASCII)).put(json).put((byte) '\n').flip();
+
+        lock.lock();
+        try {
+            write(buffer);
+            outstanding++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void commit(Collection<String> submissionIds) {
+        StringBuilder lines = new StringBuilder(submissionIds.size() * 40);
+        for (String id : submissionIds) {
+            lines.append(COMMITTED).append(id).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.US_ASCII));
+
+        lock.lock();
+        try {
+            write(buffer);
+            outstanding -= submissionIds.size();
+            if (outstanding == 0 && channel.size() > compactThresholdBytes) {
+                channel.truncate(0);
+                channel.position(0);
+                log.debug("Submission journal {} compacted", file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to compact submission journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Error closing submission journal {}: {}", file, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write submission journal " + file, e);
+        }
+    }
+
+    private void terminateTornLine() throws IOException {
+        long size = channel.size();
+        channel.position(size);
+        if (size == 0) {
+            return;
+        }
+        ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, size - 1);
+        if (last.get(0) != '\n') {
+            write(ByteBuffer.wrap(new byte[]{'\n'}));
+        }
+    }
+
+    private List<GradedSubmission> readPending() throws IOException {
+        Map<String, GradedSubmission> pending = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(APPENDED)) {
+                    try {
+                        GradedSubmission submission = objectMapper.readValue(line.substring(APPENDED.length()), GradedSubmission.class);
+                        pending.put(submission.submissionId(), submission);
+                    } catch (IOException e) {
+                        // A torn final line from a crash mid-append was never acknowledged
+                        log.warn("Skipping unreadable submission journal entry: {}", e.getMessage());
+                    }
+                } else if (line.startsWith(COMMITTED)) {
+                    pending.remove(line.substring(COMMITTED.length()));
+                }
+            }
+        }
+        return new ArrayList<>(pending.values());
+    }
+}
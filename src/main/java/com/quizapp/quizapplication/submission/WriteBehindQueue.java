@@ -0,0 +1,343 @@
+package com.quizapp.quizapplication.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.quizapplication.dto.WriteBehindStatsResponse;
+import com.quizapp.quizapplication.event.AttemptRecordedEvent;
+import com.quizapp.quizapplication.exception.SubmissionQueueFullException;
+import com.quizapp.quizapplication.service.AttemptWriter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLNonTransientException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded write-behind buffer for graded submissions. Submissions are journaled locally
+ * before they are acknowledged and a single writer thread drains them to the database in
+ * batches. Capacity is enforced with a semaphore that is only released once a submission
+ * is committed, so in-flight batches count toward the bound.
+ * <p>
+ * A batch that fails is retried one submission at a time. A submission the database keeps
+ * refusing for a permanent reason (constraint violation, data too long) is moved to the
+ * dead-letter file and committed in the journal, so it cannot hold up the rest of the queue.
+ * Failures that look like an outage are retried until the database is back.
+ * <p>
+ * {@link AttemptRecordedEvent} is published for a submission only once its batch has
+ * committed, so derived stats never count a submission that ends up dead-lettered.
+ */
+@Component
+@Log4j2
+public class WriteBehindQueue implements SmartLifecycle {
+
+    private final AttemptWriter attemptWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final SubmissionJournal journal;
+    private final ObjectMapper objectMapper;
+    private final Path deadLetterFile;
+    private final int maxAttempts;
+    private final boolean virtualThreads;
+
+    private final LinkedBlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder drainLatencyTotalNanos = new LongAdder();
+    private final LongAccumulator drainLatencyMaxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong lastDrainLatencyNanos = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindQueue(AttemptWriter attemptWriter,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper,
+                            @Value("${quiz.submission.write-behind.enabled:false}") boolean enabled,
+                            @Value("${quiz.submission.write-behind.capacity:10000}") int capacity,
+                            @Value("${quiz.submission.write-behind.batch-size:200}") int batchSize,
+                            @Value("${quiz.submission.write-behind.journal-file:data/submissions.journal}") String journalFile,
+                            @Value("${quiz.submission.write-behind.fsync:true}") boolean fsync,
+                            @Value("${quiz.submission.write-behind.compact-threshold-bytes:67108864}") long compactThresholdBytes,
+                            @Value("${quiz.submission.write-behind.dead-letter-file:data/submissions.dead-letter}") String deadLetterFile,
+                            @Value("${quiz.submission.write-behind.max-attempts:3}") int maxAttempts,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.attemptWriter = attemptWriter;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.permits = new Semaphore(capacity);
+        this.journal = new SubmissionJournal(Path.of(journalFile), objectMapper, fsync, compactThresholdBytes);
+        this.objectMapper = objectMapper;
+        this.deadLetterFile = Path.of(deadLetterFile);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Journals the submission and queues it for writing.
+     *
+     * @throws SubmissionQueueFullException if {@code capacity} submissions are already outstanding
+     */
+    public void enqueue(GradedSubmission submission) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new SubmissionQueueFullException("Submission queue is full, please retry shortly", 1);
+        }
+        try {
+            journal.append(submission);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        queue.add(new Pending(submission, System.nanoTime(), true, true));
+        enqueued.increment();
+    }
+
+    public WriteBehindStatsResponse getStats() {
+        WriteBehindStatsResponse stats = new WriteBehindStatsResponse();
+        stats.setEnabled(enabled);
+        stats.setCapacity(capacity);
+        stats.setQueueDepth(capacity - permits.availablePermits());
+        stats.setEnqueued(enqueued.sum());
+        stats.setWritten(written.sum());
+        stats.setRejected(rejected.sum());
+        stats.setDeadLettered(deadLettered.sum());
+        long writtenCount = written.sum();
+        stats.setAvgDrainLatencyMs(writtenCount == 0 ? 0 : drainLatencyTotalNanos.sum() / writtenCount / 1_000_000.0);
+        stats.setMaxDrainLatencyMs(drainLatencyMaxNanos.get() / 1_000_000.0);
+        stats.setLastDrainLatencyMs(lastDrainLatencyNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        List<GradedSubmission> recovered = journal.open();
+        if (!recovered.isEmpty()) {
+            log.warn("Recovered {} unflushed submissions from the journal", recovered.size());
+            Set<String> persisted = attemptWriter.findPersisted(
+                    recovered.stream().map(GradedSubmission::submissionId).toList());
+            long now = System.nanoTime();
+            for (GradedSubmission submission : recovered) {
+                // Recovered work is accepted even beyond capacity; it only delays new admissions.
+                // Ones already in quiz_attempts were counted by the startup rebuild of derived state.
+                queue.add(new Pending(submission, now, permits.tryAcquire(), !persisted.contains(submission.submissionId())));
+            }
+        }
+        running = true;
+        // Follows the request threads: a virtual writer while it waits on MySQL frees its carrier for them
+        Thread.Builder threads = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform();
+        writer = threads.name("submission-writer").start(this::drainLoop);
+        log.info("Write-behind submission queue started (capacity={}, batchSize={})", capacity, batchSize);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+        log.info("Write-behind submission queue stopped with {} submissions left in the journal", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Start before and stop after the embedded web server, so no submission arrives while closed
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} queued submissions, retrying one at a time: {}", batch.size(), e.getMessage(), e);
+                flushIndividually(batch);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                // The database looks unavailable: keep the rest and retry; it is still in the journal if we never get through
+                if (!running) {
+                    return;
+                }
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the batch one submission at a time, removing each from {@code batch} once it is
+     * written or dead-lettered. Stops at the first failure that is not permanent and leaves
+     * that submission and the ones after it in {@code batch}.
+     */
+    private void flushIndividually(List<Pending> batch) {
+        while (!batch.isEmpty()) {
+            Pending pending = batch.get(0);
+            RuntimeException failure = null;
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    flush(List.of(pending));
+                    failure = null;
+                    break;
+                } catch (RuntimeException e) {
+                    failure = e;
+                    if (!isPermanent(e)) {
+                        return;
+                    }
+                }
+            }
+            if (failure != null) {
+                deadLetter(pending, failure);
+            }
+            batch.remove(0);
+        }
+    }
+
+    /**
+     * True for failures that retrying the same rows cannot fix, as opposed to the database
+     * being unreachable.
+     */
+    static boolean isPermanent(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof DataAccessResourceFailureException || t instanceof SQLNonTransientConnectionException) {
+                return false;
+            }
+            if (t instanceof NonTransientDataAccessException || t instanceof SQLNonTransientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deadLetter(Pending pending, RuntimeException failure) {
+        GradedSubmission submission = pending.submission();
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("failedAt", Instant.now().toString());
+        entry.put("error", failure.getClass().getName() + ": " + failure.getMessage());
+        entry.put("submission", submission);
+        try {
+            Files.createDirectories(deadLetterFile.toAbsolutePath().getParent());
+            Files.write(deadLetterFile, (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // Without a copy elsewhere the journal entry is the only record; leave it for the next start
+            log.error("Unable to dead-letter submission {}, it stays in the journal: {}", submission.submissionId(), e.getMessage(), e);
+            return;
+        }
+        journal.commit(List.of(submission.submissionId()));
+        if (pending.holdsPermit()) {
+            permits.release();
+        }
+        deadLettered.increment();
+        log.error("Submission {} (user {}, quiz {}) failed {} times and was moved to {}: {}",
+                submission.submissionId(), submission.userId(), submission.quizId(), maxAttempts,
+                deadLetterFile, failure.getMessage());
+    }
+
+    private void flush(List<Pending> batch) {
+        List<GradedSubmission> submissions = new ArrayList<>(batch.size());
+        List<String> ids = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            submissions.add(pending.submission());
+            ids.add(pending.submission().submissionId());
+        }
+
+        attemptWriter.writeBatch(submissions);
+        journal.commit(ids);
+        publishRecorded(batch);
+
+        long now = System.nanoTime();
+        int heldPermits = 0;
+        for (Pending pending : batch) {
+            long latency = now - pending.enqueuedNanos();
+            drainLatencyTotalNanos.add(latency);
+            drainLatencyMaxNanos.accumulate(latency);
+            lastDrainLatencyNanos.set(latency);
+            if (pending.holdsPermit()) {
+                heldPermits++;
+            }
+        }
+        written.add(batch.size());
+        permits.release(heldPermits);
+    }
+
+    // The batch is committed by now: a failing listener must not make it look unwritten and get it retried
+    private void publishRecorded(List<Pending> batch) {
+        for (Pending pending : batch) {
+            if (!pending.publishOnWrite()) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(new AttemptRecordedEvent(pending.submission()));
+            } catch (RuntimeException e) {
+                log.error("Failed to publish recorded submission {}: {}", pending.submission().submissionId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private record Pending(GradedSubmission submission, long enqueuedNanos, boolean holdsPermit, boolean publishOnWrite) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.quizapp.quizapplication.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTests {
+
+    @Test
+    void evictionPrefersEntriesNotReadRecently() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(1000, 0);
+        for (long key = 0; key < 1000; key++) {
+            cache.put(key, "v" + key);
+        }
+        // Read the even keys, so the odd ones are the least recently used anywhere in the table
+        for (long key = 0; key < 1000; key += 2) {
+            cache.get(key);
+        }
+        for (long key = 1000; key < 1250; key++) {
+            cache.put(key, "v" + key);
+        }
+
+        int hotKept = 0;
+        for (long key = 0; key < 1000; key += 2) {
+            if (cache.get(key) != null) {
+                hotKept++;
+            }
+        }
+        assertThat(cache.size()).isEqualTo(1000);
+        assertThat(hotKept).isGreaterThan(450);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.getOrLoad("quiz", key -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "payload";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("payload");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderFailureReachesTheCallerAndIsNotCached() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0);
+
+        assertThatThrownBy(() -> cache.getOrLoad("quiz", key -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getOrLoad("quiz", key -> "payload")).isEqualTo("payload");
+    }
+
+    @Test
+    void loadOverlappingAnInvalidationIsNotCached() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = pool.submit(() -> cache.getOrLoad("quiz", key -> {
+                loading.countDown();
+                await(release);
+                return "before edit";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            cache.invalidate("quiz");
+            release.countDown();
+
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before edit");
+            assertThat(cache.get("quiz")).isNull();
+            assertThat(cache.getOrLoad("quiz", key -> "after edit")).isEqualTo("after edit");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
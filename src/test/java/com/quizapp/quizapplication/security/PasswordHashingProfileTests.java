@@ -0,0 +1,36 @@
+package com.quizapp.quizapplication.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PBKDF2 does not store its iteration count, so changing it must not lock out existing users.
+ */
+class PasswordHashingProfileTests {
+
+    private static final PasswordHashingProfile.Parameters CHEAP = new PasswordHashingProfile.Parameters(1_000, 16_384, 2, 1);
+    private static final PasswordHashingProfile.Parameters CHEAPER = new PasswordHashingProfile.Parameters(500, 16_384, 2, 1);
+
+    @Test
+    void pbkdf2HashesVerifyAfterTheIterationCountChanges() {
+        String hash = PasswordHashingProfile.PBKDF2.createEncoder(CHEAP).encode("admin@123");
+        PasswordEncoder reconfigured = PasswordHashingProfile.PBKDF2.createEncoder(CHEAPER);
+
+        assertThat(hash).startsWith("{pbkdf2-1000}");
+        assertThat(reconfigured.matches("admin@123", hash)).isTrue();
+        assertThat(reconfigured.matches("admin@124", hash)).isFalse();
+        assertThat(reconfigured.upgradeEncoding(hash)).isTrue();
+    }
+
+    @Test
+    void otherSchemesAndLegacyHashesStillVerify() {
+        PasswordEncoder pbkdf2 = PasswordHashingProfile.PBKDF2.createEncoder(CHEAP);
+        String bcrypt = PasswordHashingProfile.BCRYPT_8.createEncoder().encode("admin@123");
+
+        assertThat(pbkdf2.matches("admin@123", bcrypt)).isTrue();
+        assertThat(pbkdf2.matches("admin@123", bcrypt.substring("{bcrypt}".length()))).isTrue();
+        assertThat(pbkdf2.matches("admin@123", "{pbkdf2-x}00")).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+package com.quizapp.quizapplication.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Clients that do not fit in the bucket table must not bypass a policy with no global rate.
+ */
+class RateLimitFilterTests {
+
+    private static final RateLimitProperties.Rate PER_CLIENT = new RateLimitProperties.Rate(1, 5);
+
+    @Test
+    void untrackedClientIsRejectedWithoutAGlobalBucket() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitProperties.Rate[]{PER_CLIENT, null});
+
+        assertThat(submit(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse untracked = submit(filter, "10.0.0.2");
+
+        assertThat(untracked.getStatus()).isEqualTo(429);
+        assertThat(untracked.getHeader("Retry-After")).isEqualTo("1");
+        RateLimitFilter.Route route = filter.getRoutes().get(0);
+        assertThat(route.getUntracked()).isEqualTo(1);
+        assertThat(route.getRejectedPerClient()).isEqualTo(1);
+    }
+
+    @Test
+    void untrackedClientIsHeldToTheGlobalBucket() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitProperties.Rate[]{PER_CLIENT, new RateLimitProperties.Rate(1, 2)});
+
+        assertThat(submit(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(submit(filter, "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(submit(filter, "10.0.0.3").getStatus()).isEqualTo(429);
+        assertThat(filter.getRoutes().get(0).getRejectedGlobal()).isEqualTo(1);
+    }
+
+    @Test
+    void perClientBurstIsEnforced() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitProperties.Rate[]{PER_CLIENT, null});
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(submit(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+        assertThat(submit(filter, "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    private static RateLimitFilter filter(RateLimitProperties.Rate[] rates) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy(
+                "submit", "POST", "/api/attempts/{quizId}", rates[0], rates[1]);
+        return new RateLimitFilter(new RateLimitProperties(true, 1, List.of(policy)));
+    }
+
+    private static MockHttpServletResponse submit(RateLimitFilter filter, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/attempts/1");
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,57 @@
+package com.quizapp.quizapplication.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoutePatternTests {
+
+    @Test
+    void literalSegmentsMatchExactly() {
+        RoutePattern pattern = RoutePattern.compile("/api/auth/login");
+
+        assertThat(pattern.matches("/api/auth/login", 0)).isTrue();
+        assertThat(pattern.matches("/api/auth/login/", 0)).isFalse();
+        assertThat(pattern.matches("/api/auth/logins", 0)).isFalse();
+        assertThat(pattern.matches("/api/auth", 0)).isFalse();
+        assertThat(pattern.matches("/api/auth/login/extra", 0)).isFalse();
+    }
+
+    @Test
+    void variablesMatchOneNonEmptySegment() {
+        RoutePattern pattern = RoutePattern.compile("/api/attempts/{quizId}");
+
+        assertThat(pattern.matches("/api/attempts/42", 0)).isTrue();
+        assertThat(pattern.matches("/api/attempts/my", 0)).isTrue();
+        assertThat(pattern.matches("/api/attempts/", 0)).isFalse();
+        assertThat(pattern.matches("/api/attempts", 0)).isFalse();
+        assertThat(pattern.matches("/api/attempts/42/details", 0)).isFalse();
+        assertThat(RoutePattern.compile("/api/exams/*/start").matches("/api/exams/7/start", 0)).isTrue();
+    }
+
+    @Test
+    void trailingDoubleStarMatchesTheRest() {
+        RoutePattern pattern = RoutePattern.compile("/api/exams/sessions/**");
+
+        assertThat(pattern.matches("/api/exams/sessions/abc/submit", 0)).isTrue();
+        assertThat(pattern.matches("/api/exams/sessions", 0)).isTrue();
+        assertThat(pattern.matches("/api/exams/other", 0)).isFalse();
+    }
+
+    @Test
+    void matchingStartsAfterTheContextPath() {
+        RoutePattern pattern = RoutePattern.compile("/api/attempts/{quizId}");
+
+        assertThat(pattern.matches("/quiz/api/attempts/42", "/quiz".length())).isTrue();
+        assertThat(pattern.matches("/quiz/api/attempts/42", 0)).isFalse();
+    }
+
+    @Test
+    void rejectsUnsupportedPatterns() {
+        assertThatThrownBy(() -> RoutePattern.compile("api/attempts")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RoutePattern.compile("/api/**/submit")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RoutePattern.compile("/api/at*")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RoutePattern.compile("/api//attempts")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
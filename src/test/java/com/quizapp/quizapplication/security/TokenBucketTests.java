@@ -0,0 +1,70 @@
+package com.quizapp.quizapplication.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsTheBurstThenOnePermitPerInterval() {
+        TokenBucket bucket = new TokenBucket(1, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(SECOND / 2)).isEqualTo(SECOND / 2);
+
+        assertThat(bucket.tryAcquire(SECOND)).isZero();
+        assertThat(bucket.tryAcquire(SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void idleTimeDoesNotBuildMoreThanTheBurst() {
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+        long later = 3600 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(later)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void refundGivesThePermitBack() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isPositive();
+        bucket.refund();
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+    }
+
+    @Test
+    void isFullOnceEveryPermitHasRefilled() {
+        TokenBucket bucket = new TokenBucket(1, 5, 0);
+        assertThat(bucket.isFull(0)).isTrue();
+
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.isFull(SECOND)).isFalse();
+        assertThat(bucket.isFull(2 * SECOND)).isTrue();
+    }
+
+    @Test
+    void fractionalRates() {
+        // One registration per 20 seconds, burst of 3
+        TokenBucket bucket = new TokenBucket(0.05, 3, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0)).isEqualTo(20 * SECOND);
+        assertThat(bucket.tryAcquire(20 * SECOND)).isZero();
+    }
+}
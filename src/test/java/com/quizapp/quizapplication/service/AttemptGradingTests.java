@@ -0,0 +1,94 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.entity.Option;
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.exception.InvalidAnswerException;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Option ids in a submission must belong to the question they answer.
+ */
+class AttemptGradingTests {
+
+    // Question 1 has options 10 (correct) and 11; question 2 has options 20 and 21 (both correct)
+    private final AnswerKey answerKey = AnswerKey.compile(quiz());
+
+    @Test
+    void gradesKnownOptions() {
+        GradedSubmission graded = AttemptService.grade(7L, answerKey, request(List.of(10L), List.of(21L, 20L)));
+
+        assertThat(graded.score()).isEqualTo(2);
+        assertThat(graded.totalQuestions()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsOptionOfAnotherQuestion() {
+        assertThatThrownBy(() -> AttemptService.grade(7L, answerKey, request(List.of(20L), List.of(20L, 21L))))
+                .isInstanceOf(InvalidAnswerException.class)
+                .hasMessageContaining("does not belong");
+    }
+
+    @Test
+    void rejectsArbitraryOptionIds() {
+        assertThatThrownBy(() -> AttemptService.grade(7L, answerKey, request(List.of(10L), List.of(20L, 999_999L))))
+                .isInstanceOf(InvalidAnswerException.class);
+    }
+
+    @Test
+    void rejectsOversizedSelections() {
+        List<Long> flood = Collections.nCopies(AnswerKey.MAX_SELECTED_OPTIONS + 1, 20L);
+
+        assertThatThrownBy(() -> AttemptService.grade(7L, answerKey, request(List.of(10L), flood)))
+                .isInstanceOf(InvalidAnswerException.class)
+                .hasMessageContaining("Too many");
+    }
+
+    private static Quiz quiz() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.getQuestions().add(question(quiz, 1L, QuestionType.SINGLE_CHOICE, 10L, true, 11L, false));
+        quiz.getQuestions().add(question(quiz, 2L, QuestionType.MULTIPLE_CHOICE, 20L, true, 21L, true));
+        return quiz;
+    }
+
+    private static Question question(Quiz quiz, long id, QuestionType type,
+                                     long firstOption, boolean firstCorrect, long secondOption, boolean secondCorrect) {
+        Question question = new Question();
+        question.setId(id);
+        question.setQuiz(quiz);
+        question.setType(type);
+        question.getOptions().add(option(question, firstOption, firstCorrect));
+        question.getOptions().add(option(question, secondOption, secondCorrect));
+        return question;
+    }
+
+    private static Option option(Question question, long id, boolean correct) {
+        Option option = new Option();
+        option.setId(id);
+        option.setQuestion(question);
+        option.setCorrect(correct);
+        return option;
+    }
+
+    private static SubmitAnswerRequest request(List<Long> first, List<Long> second) {
+        SubmitAnswerRequest.AnswerEntry one = new SubmitAnswerRequest.AnswerEntry();
+        one.setQuestionId(1L);
+        one.setSelectedOptionIds(first);
+        SubmitAnswerRequest.AnswerEntry two = new SubmitAnswerRequest.AnswerEntry();
+        two.setQuestionId(2L);
+        two.setSelectedOptionIds(second);
+        SubmitAnswerRequest request = new SubmitAnswerRequest();
+        request.setAnswers(List.of(one, two));
+        return request;
+    }
+}
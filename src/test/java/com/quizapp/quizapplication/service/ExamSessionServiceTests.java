@@ -0,0 +1,245 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.ExamSessionResponse;
+import com.quizapp.quizapplication.dto.ScoreResponse;
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.entity.Option;
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.entity.User;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.event.ExamSessionExpiredEvent;
+import com.quizapp.quizapplication.exception.AttemptNotFoundException;
+import com.quizapp.quizapplication.exception.ExamSessionClosedException;
+import com.quizapp.quizapplication.exception.InvalidQuestionException;
+import com.quizapp.quizapplication.security.CustomUserDetails;
+import com.quizapp.quizapplication.session.ExamSession;
+import com.quizapp.quizapplication.session.ExamSessionStore;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExamSessionServiceTests {
+
+    private static final long USER_ID = 7L;
+
+    private final AnswerKeyCache answerKeyCache = mock(AnswerKeyCache.class);
+    private final AttemptService attemptService = mock(AttemptService.class);
+    private final MovableClock clock = new MovableClock();
+    private final CompletableFuture<ExamSession> autoSubmitted = new CompletableFuture<>();
+    // Expired sessions are auto-submitted through the service, on the ticker thread once started
+    private final ExamSessionStore sessionStore = new ExamSessionStore(event -> {
+        service().onSessionExpired((ExamSessionExpiredEvent) event);
+        autoSubmitted.complete(((ExamSessionExpiredEvent) event).session());
+    }, clock, 100, 0, 10800, 10, 0);
+    private final ExamSessionService service =
+            new ExamSessionService(answerKeyCache, sessionStore, attemptService, mock(QuizPayloadCache.class), clock);
+
+    @BeforeEach
+    void signIn() {
+        User user = new User();
+        user.setId(USER_ID);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), null, List.of()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+        sessionStore.stop();
+    }
+
+    @Test
+    void savedAnswersAreGradedOnSubmit() {
+        String sessionId = start(600).getSessionId();
+
+        ExamSessionResponse saved = service.saveProgress(sessionId, request(List.of(11L), null));
+        service.saveProgress(sessionId, request(List.of(10L), null));
+        // Question 1 is not mentioned, so its saved answer is kept
+        ScoreResponse score = service.submit(sessionId, textAnswer("paris"));
+
+        assertThat(saved.getAnswers()).isNull();
+        assertThat(score.getScore()).isEqualTo(2);
+        assertThat(score.getTotal()).isEqualTo(2);
+        ArgumentCaptor<GradedSubmission> recorded = ArgumentCaptor.forClass(GradedSubmission.class);
+        verify(attemptService).record(recorded.capture(), eq(false));
+        assertThat(recorded.getValue().submissionId()).isEqualTo(sessionId);
+        assertThat(sessionStore.getActiveCount()).isZero();
+        assertThatThrownBy(() -> service.submit(sessionId, null)).isInstanceOf(AttemptNotFoundException.class);
+    }
+
+    @Test
+    void rejectedSaveChangesNothing() {
+        String sessionId = start(600).getSessionId();
+        service.saveProgress(sessionId, request(List.of(10L), null));
+
+        SubmitAnswerRequest unknownQuestion = request(List.of(11L), null);
+        unknownQuestion.getAnswers().get(1).setQuestionId(99L);
+        assertThatThrownBy(() -> service.saveProgress(sessionId, unknownQuestion))
+                .isInstanceOf(InvalidQuestionException.class);
+
+        assertThat(service.getSession(sessionId).getAnswers())
+                .singleElement()
+                .satisfies(entry -> assertThat(entry.getSelectedOptionIds()).containsExactly(10L));
+    }
+
+    @Test
+    void failedRecordingKeepsTheSessionOpenForARetry() {
+        String sessionId = start(600).getSessionId();
+        doThrow(new IllegalStateException("Submission queue is full")).doNothing()
+                .when(attemptService).record(any(GradedSubmission.class), anyBoolean());
+
+        assertThatThrownBy(() -> service.submit(sessionId, request(List.of(10L), "paris")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(sessionStore.getActiveCount()).isEqualTo(1);
+
+        assertThat(service.submit(sessionId, null).getScore()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredSessionIsAutoSubmittedAsSaved() throws Exception {
+        String sessionId = start(600).getSessionId();
+        service.saveProgress(sessionId, request(List.of(10L), "lyon"));
+        ExamSession session = sessionStore.get(sessionId);
+
+        sessionStore.start();
+        clock.advance(Duration.ofSeconds(601));
+
+        assertThat(autoSubmitted.get(5, TimeUnit.SECONDS)).isSameAs(session);
+        ArgumentCaptor<GradedSubmission> recorded = ArgumentCaptor.forClass(GradedSubmission.class);
+        verify(attemptService).record(recorded.capture(), eq(true));
+        assertThat(recorded.getValue().score()).isEqualTo(1);
+        assertThat(recorded.getValue().totalQuestions()).isEqualTo(2);
+        assertThat(session.isFinished()).isTrue();
+        assertThat(sessionStore.get(sessionId)).isNull();
+    }
+
+    @Test
+    void savesAfterTheDeadlineAreRefused() {
+        String sessionId = start(0).getSessionId();
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> service.saveProgress(sessionId, request(List.of(10L), null)))
+                .isInstanceOf(ExamSessionClosedException.class);
+
+        // Submitting still closes the session, graded as saved
+        assertThat(service.submit(sessionId, request(List.of(10L), "paris")).getScore()).isZero();
+        verify(attemptService, never()).record(any(GradedSubmission.class), eq(true));
+    }
+
+    private ExamSessionService service() {
+        return service;
+    }
+
+    private ExamSessionResponse start(int timeLimitSeconds) {
+        when(answerKeyCache.get(1L)).thenReturn(AnswerKey.compile(quiz(timeLimitSeconds)));
+        return service.start(1L);
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private volatile Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    // Question 1 is single choice with option 10 correct; question 2 is TEXT answered "Paris"
+    private static Quiz quiz(int timeLimitSeconds) {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setTimeLimitSeconds(timeLimitSeconds);
+
+        Question choice = new Question();
+        choice.setId(1L);
+        choice.setQuiz(quiz);
+        choice.setType(QuestionType.SINGLE_CHOICE);
+        choice.getOptions().add(option(choice, 10L, true));
+        choice.getOptions().add(option(choice, 11L, false));
+        quiz.getQuestions().add(choice);
+
+        Question text = new Question();
+        text.setId(2L);
+        text.setQuiz(quiz);
+        text.setType(QuestionType.TEXT);
+        text.setCorrectAnswerText("Paris");
+        quiz.getQuestions().add(text);
+        return quiz;
+    }
+
+    private static Option option(Question question, long id, boolean correct) {
+        Option option = new Option();
+        option.setId(id);
+        option.setQuestion(question);
+        option.setCorrect(correct);
+        return option;
+    }
+
+    @Test
+    void entryWithoutASelectionClearsTheSavedAnswer() {
+        String sessionId = start(600).getSessionId();
+        service.saveProgress(sessionId, request(List.of(10L), "paris"));
+
+        assertThat(service.submit(sessionId, request(null, "paris")).getScore()).isEqualTo(1);
+    }
+
+    private static SubmitAnswerRequest textAnswer(String text) {
+        SubmitAnswerRequest.AnswerEntry entry = new SubmitAnswerRequest.AnswerEntry();
+        entry.setQuestionId(2L);
+        entry.setAnswerText(text);
+        SubmitAnswerRequest request = new SubmitAnswerRequest();
+        request.setAnswers(List.of(entry));
+        return request;
+    }
+
+    private static SubmitAnswerRequest request(List<Long> choice, String text) {
+        SubmitAnswerRequest.AnswerEntry first = new SubmitAnswerRequest.AnswerEntry();
+        first.setQuestionId(1L);
+        first.setSelectedOptionIds(choice);
+        SubmitAnswerRequest.AnswerEntry second = new SubmitAnswerRequest.AnswerEntry();
+        second.setQuestionId(2L);
+        second.setAnswerText(text);
+        SubmitAnswerRequest request = new SubmitAnswerRequest();
+        request.setAnswers(List.of(first, second));
+        return request;
+    }
+}
@@ -0,0 +1,106 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.SubmitAnswerRequest;
+import com.quizapp.quizapplication.entity.Option;
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.exception.ExamSessionRequiredException;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuizLayoutTests {
+
+    @Test
+    void sameSeedAndKeyGiveTheSameLayout() {
+        AnswerKey answerKey = AnswerKey.compile(quiz(20, true, true, 8));
+
+        QuizLayout first = QuizLayout.of(42L, answerKey);
+        QuizLayout again = QuizLayout.of(42L, AnswerKey.compile(quiz(20, true, true, 8)));
+
+        assertThat(order(again)).isEqualTo(order(first));
+        assertThat(again.optionOrder(3L, 4)).isEqualTo(first.optionOrder(3L, 4));
+        assertThat(IntStream.range(0, 50).mapToObj(seed -> order(QuizLayout.of(seed, answerKey))).distinct().count())
+                .isGreaterThan(1);
+    }
+
+    @Test
+    void poolDrawsDistinctQuestionsOfTheQuiz() {
+        AnswerKey answerKey = AnswerKey.compile(quiz(20, false, false, 8));
+        Set<Integer> drawnAcrossSeeds = new HashSet<>();
+
+        for (long seed = 0; seed < 200; seed++) {
+            QuizLayout layout = QuizLayout.of(seed, answerKey);
+            List<Integer> order = order(layout);
+
+            assertThat(layout.size()).isEqualTo(8);
+            assertThat(order).doesNotHaveDuplicates().allMatch(index -> index >= 0 && index < 20);
+            // Without question shuffling the drawn questions keep id order
+            assertThat(order).isSorted();
+            assertThat(IntStream.range(0, 20).filter(layout::contains).boxed().toList())
+                    .containsExactlyInAnyOrderElementsOf(order);
+            drawnAcrossSeeds.addAll(order);
+        }
+        assertThat(drawnAcrossSeeds).hasSize(20);
+    }
+
+    @Test
+    void poolLargerThanTheQuizDrawsEverythingInIdOrder() {
+        AnswerKey answerKey = AnswerKey.compile(quiz(5, false, false, 10));
+
+        assertThat(order(QuizLayout.of(7L, answerKey))).containsExactly(0, 1, 2, 3, 4);
+        assertThat(answerKey.requiresExamSession()).isFalse();
+    }
+
+    @Test
+    void statelessSubmitIsRefusedForDrawnQuizzes() {
+        AnswerKeyCache answerKeyCache = mock(AnswerKeyCache.class);
+        when(answerKeyCache.get(1L)).thenReturn(AnswerKey.compile(quiz(20, false, false, 8)));
+        AttemptService attemptService = new AttemptService(null, answerKeyCache, null, null, null, null,
+                mock(ApplicationEventPublisher.class));
+
+        assertThatThrownBy(() -> attemptService.submitAnswers(1L, new SubmitAnswerRequest()))
+                .isInstanceOf(ExamSessionRequiredException.class)
+                .hasMessageContaining("/api/exams/");
+        assertThat(AnswerKey.compile(quiz(20, true, false, null)).requiresExamSession()).isTrue();
+        assertThat(QuizService.requiresExamSession(QuizService.mapToQuizResponse(quiz(20, false, false, 8)))).isTrue();
+        assertThat(QuizService.requiresExamSession(QuizService.mapToQuizResponse(quiz(20, false, true, null)))).isFalse();
+    }
+
+    private static List<Integer> order(QuizLayout layout) {
+        return IntStream.range(0, layout.size()).map(layout::questionIndexAt).boxed().toList();
+    }
+
+    private static Quiz quiz(int questions, boolean shuffleQuestions, boolean shuffleOptions, Integer poolSize) {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setShuffleQuestions(shuffleQuestions);
+        quiz.setShuffleOptions(shuffleOptions);
+        quiz.setQuestionPoolSize(poolSize);
+        for (long id = 1; id <= questions; id++) {
+            Question question = new Question();
+            question.setId(id);
+            question.setQuiz(quiz);
+            question.setType(QuestionType.SINGLE_CHOICE);
+            for (long o = 0; o < 4; o++) {
+                Option option = new Option();
+                option.setId(id * 10 + o);
+                option.setQuestion(question);
+                option.setCorrect(o == 0);
+                question.getOptions().add(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quiz;
+    }
+}
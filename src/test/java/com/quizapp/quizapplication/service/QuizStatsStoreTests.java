@@ -0,0 +1,51 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.dto.LeaderboardEntryResponse;
+import com.quizapp.quizapplication.event.AttemptRecordedEvent;
+import com.quizapp.quizapplication.exception.QuizNotFoundOrInactiveException;
+import com.quizapp.quizapplication.submission.GradedSubmission;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuizStatsStoreTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 27, 12, 0);
+
+    private final QuizPayloadCache quizPayloadCache = mock(QuizPayloadCache.class);
+    private final QuizStatsStore store = new QuizStatsStore(mock(DataSource.class), quizPayloadCache, 100);
+
+    @Test
+    void leaderboardRanksByPercentageThenRawScore() {
+        record(1L, 8, 20);
+        record(2L, 7, 7);
+        record(3L, 14, 20);
+        record(4L, 7, 10);
+        record(5L, 14, 14);
+
+        List<LeaderboardEntryResponse> leaderboard = store.getLeaderboard(1L, 10);
+
+        assertThat(leaderboard).extracting(LeaderboardEntryResponse::getUserId).containsExactly(5L, 2L, 3L, 4L, 1L);
+        assertThat(leaderboard).extracting(LeaderboardEntryResponse::getRank).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void unknownQuizIsNotFound() {
+        when(quizPayloadCache.get(99L)).thenThrow(new QuizNotFoundOrInactiveException("Quiz not found or inactive"));
+
+        assertThatThrownBy(() -> store.getStats(99L)).isInstanceOf(QuizNotFoundOrInactiveException.class);
+        assertThatThrownBy(() -> store.getLeaderboard(99L, 10)).isInstanceOf(QuizNotFoundOrInactiveException.class);
+    }
+
+    private void record(Long userId, int score, int total) {
+        store.onAttemptRecorded(new AttemptRecordedEvent(
+                new GradedSubmission("s" + userId, userId, 1L, score, total, NOW, List.of(), null)));
+    }
+}
@@ -0,0 +1,207 @@
+package com.quizapp.quizapplication.service;
+
+import com.quizapp.quizapplication.entity.*;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.enums.Role;
+import com.quizapp.quizapplication.repository.QuizAttemptRepository;
+import com.quizapp.quizapplication.repository.QuizRepository;
+import com.quizapp.quizapplication.repository.UserAnswerRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the number of SQL statements each read endpoint needs, independent of how many
+ * questions, options, attempts or answers there are.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReadPathStatementCountTests {
+
+    private static final int QUIZZES = 3;
+    private static final int QUESTIONS = 12;
+    private static final int OPTIONS = 4;
+    private static final int ATTEMPTS = 5;
+
+    // The application's admin bootstrap runner needs an encoder, which the JPA slice does not provide
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuizAttemptRepository attemptRepository;
+
+    @Autowired
+    private UserAnswerRepository userAnswerRepository;
+
+    private Statistics statistics;
+    private User student;
+    private Quiz firstQuiz;
+    private QuizAttempt firstAttempt;
+
+    @BeforeEach
+    void setUp() {
+        User author = user("author", Role.ADMIN);
+        student = user("student", Role.USER);
+
+        for (int q = 0; q < QUIZZES; q++) {
+            Quiz quiz = quiz(author, "Quiz " + q);
+            if (firstQuiz == null) {
+                firstQuiz = quiz;
+            }
+        }
+        for (int a = 0; a < ATTEMPTS; a++) {
+            QuizAttempt attempt = attempt(student, firstQuiz);
+            if (firstAttempt == null) {
+                firstAttempt = attempt;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getQuizUsesTwoStatements() {
+        Quiz quiz = quizRepository.findActiveByIdWithQuestions(firstQuiz.getId()).orElseThrow();
+        QuizService.mapToQuizResponse(quiz);
+
+        // quiz + questions, then options for all questions
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getAllQuizzesUsesTwoStatements() {
+        quizRepository.findAllActiveWithQuestions().forEach(QuizService::mapToQuizResponse);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void compilingAnswerKeyUsesTwoStatements() {
+        AnswerKey.compile(quizRepository.findActiveByIdWithQuestions(firstQuiz.getId()).orElseThrow());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getMyScoresUsesThreeStatements() {
+        List<Long> ids = attemptRepository.findIdsByUserAfter(student, 0L, Limit.of(50));
+        attemptRepository.findWithAnswersByIdInOrderByIdAsc(ids).forEach(AttemptService::mapToAttemptResponse);
+
+        // page of ids, attempts + answers, then selected options for all answers
+        assertThat(ids).hasSize(ATTEMPTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getAllScoresUsesThreeStatements() {
+        List<Long> ids = attemptRepository.findIdsAfter(0L, Limit.of(50));
+        attemptRepository.findWithAnswersByIdInOrderByIdAsc(ids).forEach(AttemptService::mapToAttemptResponse);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getAttemptDetailsUsesTwoStatements() {
+        AttemptService.mapToAttemptResponse(attemptRepository.findWithAnswersById(firstAttempt.getId()).orElseThrow());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void checkingTheAttemptOwnerUsesOneStatement() {
+        assertThat(attemptRepository.findUserIdById(firstAttempt.getId())).contains(student.getId());
+
+        // Checked before the attempt payload is loaded or cached
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void countingPicksByOptionUsesOneStatement() {
+        List<Long> optionIds = firstQuiz.getQuestions().get(0).getOptions().stream().map(Option::getId).toList();
+
+        assertThat(userAnswerRepository.countPicksByOptionIds(optionIds))
+                .singleElement()
+                .satisfies(count -> {
+                    assertThat(count.getOptionId()).isEqualTo(optionIds.get(0));
+                    assertThat(count.getPicks()).isEqualTo(ATTEMPTS);
+                });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private User user(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setEmail(username + "@example.com");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Quiz quiz(User creator, String title) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle(title);
+        quiz.setCreatedBy(creator);
+        for (int q = 0; q < QUESTIONS; q++) {
+            Question question = new Question();
+            question.setQuiz(quiz);
+            question.setText("Question " + q);
+            question.setType(QuestionType.SINGLE_CHOICE);
+            for (int o = 0; o < OPTIONS; o++) {
+                Option option = new Option();
+                option.setQuestion(question);
+                option.setText("Option " + o);
+                option.setCorrect(o == 0);
+                question.getOptions().add(option);
+            }
+            quiz.getQuestions().add(question);
+        }
+        entityManager.persist(quiz);
+        return quiz;
+    }
+
+    private QuizAttempt attempt(User user, Quiz quiz) {
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setUser(user);
+        attempt.setQuiz(quiz);
+        attempt.setTotalQuestions(quiz.getQuestions().size());
+        for (Question question : quiz.getQuestions()) {
+            UserAnswer answer = new UserAnswer();
+            answer.setAttempt(attempt);
+            answer.setQuestion(question);
+            answer.getSelectedOptionIds().add(question.getOptions().get(0).getId());
+            attempt.getAnswers().add(answer);
+        }
+        entityManager.persist(attempt);
+        return attempt;
+    }
+}
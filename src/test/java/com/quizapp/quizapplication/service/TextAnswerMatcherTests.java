@@ -0,0 +1,67 @@
+package com.quizapp.quizapplication.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAnswerMatcherTests {
+
+    @Test
+    void numericAnswersAreGradedNumericallyOnly() {
+        TextAnswerMatcher negative = TextAnswerMatcher.compile("-5", List.of(), null, 2);
+        assertThat(negative.matches("-5")).isTrue();
+        assertThat(negative.matches(" -5.0 ")).isTrue();
+        assertThat(negative.matches("5")).isFalse();
+
+        TextAnswerMatcher pi = TextAnswerMatcher.compile("3.14", List.of(), 0.001, 2);
+        assertThat(pi.matches("3,14")).isTrue();
+        assertThat(pi.matches("3.1405")).isTrue();
+        assertThat(pi.matches("3.15")).isFalse();
+        assertThat(pi.matches("3 14")).isFalse();
+        assertThat(pi.matches("3.14 apples")).isFalse();
+    }
+
+    @Test
+    void numericSubmissionDoesNotFallBackToText() {
+        TextAnswerMatcher matcher = TextAnswerMatcher.compile("Apollo 11", List.of(), null, 2);
+
+        assertThat(matcher.matches("11")).isFalse();
+        assertThat(matcher.matches("apollo 11")).isTrue();
+    }
+
+    @Test
+    void symbolsThatChangeMeaningAreKept() {
+        TextAnswerMatcher cpp = TextAnswerMatcher.compile("C++", List.of(), null, 2);
+        assertThat(cpp.matches("c++")).isTrue();
+        assertThat(cpp.matches("C")).isFalse();
+        assertThat(cpp.matches("C#")).isFalse();
+
+        assertThat(TextAnswerMatcher.normalize("C++ / .NET")).isEqualTo("c++ .net");
+        assertThat(TextAnswerMatcher.normalize("  Café au-lait.")).isEqualTo("cafe au-lait");
+        assertThat(TextAnswerMatcher.normalize("Paris!")).isEqualTo("paris");
+    }
+
+    @Test
+    void thousandsSeparatorsAreNotDecimalPoints() {
+        assertThat(TextAnswerMatcher.parseNumber("1,000")).isEqualTo(1000.0);
+        assertThat(TextAnswerMatcher.parseNumber("12,345.5")).isEqualTo(12345.5);
+        assertThat(TextAnswerMatcher.parseNumber("2,5")).isEqualTo(2.5);
+        assertThat(TextAnswerMatcher.parseNumber("1,000,00")).isNaN();
+        assertThat(TextAnswerMatcher.parseNumber("1.000.000")).isNaN();
+
+        TextAnswerMatcher thousand = TextAnswerMatcher.compile("1000", List.of(), null, null);
+        assertThat(thousand.matches("1,000")).isTrue();
+        assertThat(TextAnswerMatcher.compile("1", List.of(), null, null).matches("1,000")).isFalse();
+    }
+
+    @Test
+    void typosWithinTheAllowanceAreForgiven() {
+        TextAnswerMatcher matcher = TextAnswerMatcher.compile("Mitochondria", List.of("Crème brûlée"), null, 2);
+
+        assertThat(matcher.matches("mitocondria")).isTrue();
+        assertThat(matcher.matches("creme brulee!")).isTrue();
+        assertThat(matcher.matches("chloroplast")).isFalse();
+    }
+}
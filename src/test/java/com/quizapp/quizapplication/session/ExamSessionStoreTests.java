@@ -0,0 +1,132 @@
+package com.quizapp.quizapplication.session;
+
+import com.quizapp.quizapplication.entity.Question;
+import com.quizapp.quizapplication.entity.Quiz;
+import com.quizapp.quizapplication.enums.QuestionType;
+import com.quizapp.quizapplication.event.ExamSessionExpiredEvent;
+import com.quizapp.quizapplication.service.AnswerKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Timing wheel bookkeeping, driven by explicit tick times instead of the ticker thread.
+ */
+class ExamSessionStoreTests {
+
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+
+    @Test
+    void deadlineMoreThanOneRevolutionAwayWaitsForItsOwnRevolution() {
+        ExamSessionStore store = newStore(0);
+        ExamSession session = store.open(1L, answerKey(600));
+
+        store.tick(session.getClosesAtMillis() - 500_000);
+        store.tick(session.getClosesAtMillis() - 1_000);
+        verify(publisher, never()).publishEvent(any(ExamSessionExpiredEvent.class));
+
+        store.tick(session.getClosesAtMillis() + 1_000);
+        verify(publisher).publishEvent(new ExamSessionExpiredEvent(session));
+        assertThat(store.getExpired()).isEqualTo(1);
+    }
+
+    @Test
+    void sessionClosingBehindTheTickerIsFiledIntoTheNextSlot() {
+        ExamSessionStore store = newStore(0);
+        store.tick(System.currentTimeMillis() + 10_000);
+
+        // Already closed when it is filed: its own second was visited by the tick above
+        ExamSession session = store.open(1L, answerKey(0));
+        store.tick(session.getClosesAtMillis() + 12_000);
+
+        verify(publisher).publishEvent(new ExamSessionExpiredEvent(session));
+    }
+
+    @Test
+    void failedExpiryIsRetriedLater() {
+        ExamSessionStore store = newStore(0);
+        ExamSession session = store.open(1L, answerKey(60));
+        doThrow(new IllegalStateException("Communications link failure"))
+                .doAnswer(invocation -> null)
+                .when(publisher).publishEvent(any(ExamSessionExpiredEvent.class));
+
+        store.tick(session.getClosesAtMillis() + 1_000);
+        assertThat(store.getExpired()).isZero();
+
+        store.tick(session.getClosesAtMillis() + 3_000);
+        verify(publisher, times(1)).publishEvent(any(ExamSessionExpiredEvent.class));
+
+        store.tick(session.getClosesAtMillis() + 8_000);
+        verify(publisher, times(2)).publishEvent(any(ExamSessionExpiredEvent.class));
+        assertThat(store.getExpired()).isEqualTo(1);
+    }
+
+    @Test
+    void finishedSessionIsDroppedFromTheWheel() {
+        ExamSessionStore store = newStore(0);
+        ExamSession session = store.open(1L, answerKey(60));
+        store.remove(session);
+
+        store.tick(session.getClosesAtMillis() + 1_000);
+
+        verify(publisher, never()).publishEvent(any(ExamSessionExpiredEvent.class));
+        assertThat(store.getActiveCount()).isZero();
+    }
+
+    @Test
+    void expiriesRunOnWorkersNotTheTicker() throws Exception {
+        ExamSessionStore store = newStore(2);
+        CompletableFuture<String> expiredOn = new CompletableFuture<>();
+        doAnswer(invocation -> expiredOn.complete(Thread.currentThread().getName()))
+                .when(publisher).publishEvent(any(ExamSessionExpiredEvent.class));
+        store.start();
+        try {
+            ExamSession session = store.open(1L, answerKey(600));
+            store.tick(session.getClosesAtMillis() + 1_000);
+
+            assertThat(expiredOn.get(5, TimeUnit.SECONDS)).startsWith("exam-session-expiry-worker-");
+        } finally {
+            store.stop();
+        }
+    }
+
+    @Test
+    void reopeningReturnsTheRunningSession() {
+        ExamSessionStore store = newStore(0);
+        AnswerKey answerKey = answerKey(600);
+
+        ExamSession first = store.open(1L, answerKey);
+
+        assertThat(store.open(1L, answerKey)).isSameAs(first);
+        assertThat(store.getActiveCount()).isEqualTo(1);
+    }
+
+    private ExamSessionStore newStore(int expiryThreads) {
+        return new ExamSessionStore(publisher, Clock.systemDefaultZone(), 100, 0, 10800, 10, expiryThreads);
+    }
+
+    private static AnswerKey answerKey(int timeLimitSeconds) {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setTimeLimitSeconds(timeLimitSeconds);
+        Question question = new Question();
+        question.setId(1L);
+        question.setQuiz(quiz);
+        question.setType(QuestionType.TEXT);
+        question.setCorrectAnswerText("Paris");
+        quiz.getQuestions().add(question);
+        return AnswerKey.compile(quiz);
+    }
+}
@@ -0,0 +1,129 @@
+package com.quizapp.quizapplication.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quizapp.quizapplication.event.AttemptRecordedEvent;
+import com.quizapp.quizapplication.service.AttemptWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A submission the database refuses for good must not hold up the queue behind it.
+ */
+class WriteBehindQueueTests {
+
+    @TempDir
+    Path dir;
+
+    private final AttemptWriter attemptWriter = mock(AttemptWriter.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private WriteBehindQueue queue;
+
+    @AfterEach
+    void stop() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void permanentlyFailingSubmissionIsDeadLetteredAndTheRestAreWritten() throws Exception {
+        when(attemptWriter.writeBatch(anyList())).thenAnswer(invocation -> {
+            List<GradedSubmission> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(s -> s.submissionId().equals("bad"))) {
+                throw new DataIntegrityViolationException("Data too long for column 'answer_text'");
+            }
+            return batch.size();
+        });
+        queue = newQueue(3);
+        queue.start();
+
+        queue.enqueue(submission("a"));
+        queue.enqueue(submission("bad"));
+        queue.enqueue(submission("b"));
+
+        awaitTrue(() -> queue.getStats().getWritten() == 2 && queue.getStats().getDeadLettered() == 1);
+        assertThat(queue.getStats().getQueueDepth()).isZero();
+        List<String> deadLetters = Files.readAllLines(dir.resolve("dead-letter"));
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0)).contains("\"submissionId\":\"bad\"").contains("Data too long");
+        // Only committed submissions reach the stats
+        ArgumentCaptor<AttemptRecordedEvent> recorded = ArgumentCaptor.forClass(AttemptRecordedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(recorded.capture());
+        assertThat(recorded.getAllValues()).extracting(event -> event.submission().submissionId())
+                .containsExactlyInAnyOrder("a", "b");
+
+        // Committed in the journal, so a restart does not replay it
+        queue.stop();
+        queue = newQueue(3);
+        queue.start();
+        assertThat(queue.getStats().getQueueDepth()).isZero();
+    }
+
+    @Test
+    void outageIsRetriedInsteadOfDeadLettered() throws Exception {
+        int[] calls = {0};
+        when(attemptWriter.writeBatch(anyList())).thenAnswer(invocation -> {
+            if (calls[0]++ < 2) {
+                throw new DataAccessResourceFailureException("Communications link failure");
+            }
+            return ((List<?>) invocation.getArgument(0)).size();
+        });
+        queue = newQueue(3);
+        queue.start();
+
+        queue.enqueue(submission("a"));
+
+        awaitTrue(() -> queue.getStats().getWritten() == 1);
+        assertThat(queue.getStats().getDeadLettered()).isZero();
+        assertThat(dir.resolve("dead-letter")).doesNotExist();
+    }
+
+    @Test
+    void classifiesFailures() {
+        assertThat(WriteBehindQueue.isPermanent(new DataIntegrityViolationException("duplicate"))).isTrue();
+        assertThat(WriteBehindQueue.isPermanent(new DataAccessResourceFailureException("down"))).isFalse();
+        assertThat(WriteBehindQueue.isPermanent(new CannotAcquireLockException("deadlock"))).isFalse();
+        assertThat(WriteBehindQueue.isPermanent(new IllegalStateException("unknown"))).isFalse();
+    }
+
+    private WriteBehindQueue newQueue(int maxAttempts) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new WriteBehindQueue(attemptWriter, eventPublisher, objectMapper,
+                true, 10, 10, dir.resolve("journal").toString(), false, 1 << 20,
+                dir.resolve("dead-letter").toString(), maxAttempts, false);
+    }
+
+    private static GradedSubmission submission(String id) {
+        return new GradedSubmission(id, 1L, 1L, 1, 1, LocalDateTime.of(2025, 9, 27, 12, 0),
+                List.of(new GradedSubmission.Answer(1L, List.of(2L), null, true)), null);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}